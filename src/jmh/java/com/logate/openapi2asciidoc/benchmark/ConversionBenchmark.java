@@ -0,0 +1,121 @@
+package com.logate.openapi2asciidoc.benchmark;
+
+import com.logate.openapi2asciidoc.openapi2markup.ConversionSession;
+import com.logate.openapi2asciidoc.openapi2markup.OpenAPI2MarkupConverter;
+import com.logate.openapi2asciidoc.openapi2markup.OpenSchema2MarkupConfig;
+import com.logate.openapi2asciidoc.openapi2markup.config.OpenAPILabels;
+import com.logate.openapi2asciidoc.openapi2markup.config.builder.OpenAPI2MarkupConfigBuilder;
+import com.logate.openapi2asciidoc.openapi2markup.extension.OpenAPI2MarkupExtensionRegistry;
+import com.logate.openapi2asciidoc.openapi2markup.extension.builder.OpenAPI2MarkupExtensionRegistryBuilder;
+import com.logate.openapi2asciidoc.openapi2markup.internal.document.ComponentsDocument;
+import com.logate.openapi2asciidoc.openapi2markup.internal.document.PathsDocument;
+import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.DocumentImpl;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import org.asciidoctor.ast.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks of the conversion stages: parsing the specification, building the AST of the paths and components
+ * documents, rendering the AST to AsciiDoc and writing all documents to files. Run them with
+ * {@code mvn -Pbenchmarks test-compile exec:exec}, which adds {@code -prof gc} to report allocation rates. Other JMH
+ * options can be passed with {@code -Djmh.args=...}, e.g. {@code -Djmh.args="-prof gc -p operations=1000"}.
+ * <p>
+ * Each build benchmark uses a new context, so that the schema documents are not taken from the cache of a previous
+ * invocation. The documents rendered by {@link #render()} are built once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int operations;
+
+    private String spec;
+    private OpenAPI openAPI;
+    private OpenSchema2MarkupConfig config;
+    private OpenAPI2MarkupExtensionRegistry extensionRegistry;
+    private OpenAPILabels labels;
+    private ConversionSession session;
+    private DocumentImpl pathsDocument;
+    private DocumentImpl componentsDocument;
+    private Path outputDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        spec = new SyntheticSpecGenerator().withPaths(operations).withSchemas(operations).generate();
+        openAPI = parse();
+        config = new OpenAPI2MarkupConfigBuilder().build();
+        extensionRegistry = new OpenAPI2MarkupExtensionRegistryBuilder().build();
+        labels = new OpenAPILabels(config);
+        session = new ConversionSession(config, extensionRegistry);
+        pathsDocument = (DocumentImpl) buildPathsDocument();
+        componentsDocument = (DocumentImpl) buildComponentsDocument();
+        outputDirectory = Files.createTempDirectory("openapi2asciidoc-benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(outputDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public OpenAPI parse() {
+        return new OpenAPIV3Parser().readContents(spec, null, null).getOpenAPI();
+    }
+
+    @Benchmark
+    public Document buildPathsDocument() {
+        OpenAPI2MarkupConverter.OpenAPIContext context = newContext();
+        return new PathsDocument(context).apply(context.createDocument(), PathsDocument.parameters(openAPI));
+    }
+
+    @Benchmark
+    public Document buildComponentsDocument() {
+        OpenAPI2MarkupConverter.OpenAPIContext context = newContext();
+        return new ComponentsDocument(context).apply(context.createDocument(),
+                ComponentsDocument.parameters(openAPI.getComponents()));
+    }
+
+    @Benchmark
+    public int render() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        pathsDocument.convert(sb);
+        componentsDocument.convert(sb);
+        return sb.length();
+    }
+
+    @Benchmark
+    public void write() {
+        session.convert(openAPI, converter -> converter.toFolder(outputDirectory));
+    }
+
+    private OpenAPI2MarkupConverter.OpenAPIContext newContext() {
+        return new OpenAPI2MarkupConverter.OpenAPIContext(config, extensionRegistry, openAPI, null, labels);
+    }
+}
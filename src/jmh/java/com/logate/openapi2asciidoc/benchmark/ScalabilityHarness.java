@@ -0,0 +1,105 @@
+package com.logate.openapi2asciidoc.benchmark;
+
+import com.logate.openapi2asciidoc.openapi2markup.OpenAPI2MarkupConverter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Runs the full conversion, from a specification file to the AsciiDoc files, on synthetic specifications of growing
+ * size and nesting depth, and prints wall time, peak heap and output size of each as a table. Run it with
+ * {@code mvn -Pbenchmarks test-compile exec:exec@scalability}.
+ * <p>
+ * Everything is generated locally from fixed parameters, so the harness runs offline and the curves of different
+ * versions can be compared. Peak heap is the sum of the peak usage of all heap pools, reset before each run after a
+ * GC, so it is an upper bound of the memory the conversion needed. Each scenario is converted once after a warm-up
+ * conversion of the smallest one.
+ */
+public final class ScalabilityHarness {
+
+    private ScalabilityHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<SyntheticSpecGenerator> scenarios = new ArrayList<>();
+        for (int paths : new int[]{10, 100, 1_000, 10_000}) {
+            scenarios.add(new SyntheticSpecGenerator().withPaths(paths).withSchemas(paths).withDepth(2));
+        }
+        for (int depth : new int[]{0, 1, 5, 10}) {
+            scenarios.add(new SyntheticSpecGenerator().withPaths(100).withSchemas(100).withDepth(depth));
+        }
+        scenarios.add(new SyntheticSpecGenerator().withPaths(100).withSchemas(100).withDepth(2)
+                .withEnumSize(100).withExampleSize(100).withRefFanOut(10));
+
+        Path workDirectory = Files.createTempDirectory("openapi2asciidoc-scalability");
+        try {
+            run(new SyntheticSpecGenerator().withPaths(10).withSchemas(10), workDirectory);
+
+            System.out.printf("%-85s %12s %14s %14s%n", "scenario", "wall (ms)", "peak heap (MB)", "output (KB)");
+            for (SyntheticSpecGenerator scenario : scenarios) {
+                Result result = run(scenario, workDirectory);
+                System.out.printf("%-85s %12d %14.1f %14.1f%n", scenario, result.wallMillis,
+                        result.peakHeapBytes / (1024.0 * 1024.0), result.outputBytes / 1024.0);
+            }
+        } finally {
+            delete(workDirectory);
+        }
+    }
+
+    private static Result run(SyntheticSpecGenerator scenario, Path workDirectory) throws IOException {
+        Path specFile = workDirectory.resolve("spec.json");
+        Files.write(specFile, scenario.generate().getBytes(StandardCharsets.UTF_8));
+        Path outputDirectory = workDirectory.resolve("output");
+        delete(outputDirectory);
+
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool);
+            }
+        }
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        OpenAPI2MarkupConverter.from(specFile).build().toFolder(outputDirectory);
+        long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        long outputBytes;
+        try (Stream<Path> files = Files.walk(outputDirectory)) {
+            outputBytes = files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+        return new Result(wallMillis, peakHeapBytes, outputBytes);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        if (Files.notExists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    private static final class Result {
+        private final long wallMillis;
+        private final long peakHeapBytes;
+        private final long outputBytes;
+
+        private Result(long wallMillis, long peakHeapBytes, long outputBytes) {
+            this.wallMillis = wallMillis;
+            this.peakHeapBytes = peakHeapBytes;
+            this.outputBytes = outputBytes;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.logate.openapi2asciidoc.benchmark;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Generates OpenAPI specifications of a given shape for the benchmarks and the scalability harness. The output only
+ * depends on the parameters, so results of different runs and versions can be compared.
+ * <p>
+ * Every path gets a single operation with a path and a query parameter, and a JSON response with an example, whose
+ * schema is one of the component schemas. Every component schema nests inline objects down to the configured depth,
+ * has an enum property on each level, and references further component schemas according to the {@code $ref} fan-out.
+ * All operations share an {@code Error} schema for their error responses.
+ */
+final class SyntheticSpecGenerator {
+
+    private int paths = 10;
+    private int schemas = 10;
+    private int depth = 1;
+    private int enumSize = 3;
+    private int exampleSize = 3;
+    private int refFanOut = 1;
+
+    /**
+     * @param paths the number of paths, each with one operation
+     * @return this generator
+     */
+    SyntheticSpecGenerator withPaths(int paths) {
+        Validate.isTrue(paths >= 0, "%s must not be negative", "paths");
+        this.paths = paths;
+        return this;
+    }
+
+    /**
+     * @param schemas the number of component schemas, besides {@code Error}
+     * @return this generator
+     */
+    SyntheticSpecGenerator withSchemas(int schemas) {
+        Validate.isTrue(schemas >= 1, "%s must be at least 1", "schemas");
+        this.schemas = schemas;
+        return this;
+    }
+
+    /**
+     * @param depth the number of inline object levels below each component schema
+     * @return this generator
+     */
+    SyntheticSpecGenerator withDepth(int depth) {
+        Validate.isTrue(depth >= 0, "%s must not be negative", "depth");
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * @param enumSize the number of values of each enum property
+     * @return this generator
+     */
+    SyntheticSpecGenerator withEnumSize(int enumSize) {
+        Validate.isTrue(enumSize >= 1, "%s must be at least 1", "enumSize");
+        this.enumSize = enumSize;
+        return this;
+    }
+
+    /**
+     * @param exampleSize the number of fields of each response example
+     * @return this generator
+     */
+    SyntheticSpecGenerator withExampleSize(int exampleSize) {
+        Validate.isTrue(exampleSize >= 0, "%s must not be negative", "exampleSize");
+        this.exampleSize = exampleSize;
+        return this;
+    }
+
+    /**
+     * @param refFanOut the number of other component schemas each component schema references
+     * @return this generator
+     */
+    SyntheticSpecGenerator withRefFanOut(int refFanOut) {
+        Validate.isTrue(refFanOut >= 0, "%s must not be negative", "refFanOut");
+        this.refFanOut = refFanOut;
+        return this;
+    }
+
+    /**
+     * Generates the specification in JSON.
+     *
+     * @return the specification
+     */
+    String generate() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Synthetic API\",\"version\":\"1.0\",")
+                .append("\"description\":\"Synthetic API: ").append(this).append("\"},");
+        sb.append("\"paths\":{");
+        for (int i = 0; i < paths; i++) {
+            if (i > 0) sb.append(',');
+            appendPath(sb, i);
+        }
+        sb.append("},\"components\":{\"schemas\":{");
+        sb.append("\"Error\":{\"type\":\"object\",\"required\":[\"code\"],\"properties\":{")
+                .append("\"code\":{\"type\":\"integer\",\"format\":\"int32\"},")
+                .append("\"message\":{\"type\":\"string\",\"maxLength\":256}}}");
+        for (int i = 0; i < schemas; i++) {
+            sb.append(",\"Resource").append(i).append("\":");
+            appendObjectSchema(sb, i, depth);
+        }
+        sb.append("}}}");
+        return sb.toString();
+    }
+
+    private void appendPath(StringBuilder sb, int i) {
+        sb.append("\"/resources").append(i).append("/{id}\":{\"get\":{")
+                .append("\"summary\":\"Get resource ").append(i).append("\",")
+                .append("\"description\":\"Returns the resource *").append(i).append("* by its `id`.\",")
+                .append("\"tags\":[\"tag").append(i % 10).append("\"],")
+                .append("\"parameters\":[")
+                .append("{\"name\":\"id\",\"in\":\"path\",\"required\":true,\"schema\":{\"type\":\"string\"}},")
+                .append("{\"name\":\"expand\",\"in\":\"query\",\"schema\":{\"type\":\"boolean\"}}],")
+                .append("\"responses\":{\"200\":{\"description\":\"OK\",\"content\":{\"application/json\":{")
+                .append("\"schema\":{\"$ref\":\"#/components/schemas/Resource").append(i % schemas).append("\"},")
+                .append("\"example\":{");
+        for (int k = 0; k < exampleSize; k++) {
+            if (k > 0) sb.append(',');
+            sb.append("\"field").append(k).append("\":\"value ").append(i).append('.').append(k).append('"');
+        }
+        sb.append("}}}},")
+                .append("\"404\":{\"description\":\"Not found\",\"content\":{\"application/json\":{")
+                .append("\"schema\":{\"$ref\":\"#/components/schemas/Error\"}}}}}}}");
+    }
+
+    private void appendObjectSchema(StringBuilder sb, int i, int levels) {
+        sb.append("{\"type\":\"object\",\"required\":[\"id\"],")
+                .append("\"description\":\"Resource ").append(i).append(" at level ").append(depth - levels).append("\",")
+                .append("\"properties\":{")
+                .append("\"id\":{\"type\":\"string\",\"format\":\"uuid\"},")
+                .append("\"name\":{\"type\":\"string\",\"minLength\":1,\"maxLength\":64},")
+                .append("\"status\":{\"type\":\"string\",\"enum\":[");
+        for (int k = 0; k < enumSize; k++) {
+            if (k > 0) sb.append(',');
+            sb.append("\"STATUS_").append(k).append('"');
+        }
+        sb.append("]}");
+        if (levels == depth) {
+            for (int k = 1; k <= refFanOut; k++) {
+                sb.append(",\"related").append(k).append("\":{\"$ref\":\"#/components/schemas/Resource")
+                        .append((i + k) % schemas).append("\"}");
+            }
+            sb.append(",\"error\":{\"$ref\":\"#/components/schemas/Error\"}");
+        }
+        if (levels > 0) {
+            sb.append(",\"child\":");
+            appendObjectSchema(sb, i, levels - 1);
+        }
+        sb.append("}}");
+    }
+
+    @Override
+    public String toString() {
+        return "paths=" + paths + ", schemas=" + schemas + ", depth=" + depth + ", enumSize=" + enumSize
+                + ", exampleSize=" + exampleSize + ", refFanOut=" + refFanOut;
+    }
+}
@@ -0,0 +1,201 @@
+package com.logate.openapi2asciidoc;
+
+import com.logate.openapi2asciidoc.swagger2markup.core.config.builder.Schema2MarkupConfigBuilder;
+import org.apache.commons.configuration2.Configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.logate.openapi2asciidoc.swagger2markup.core.Schema2MarkupProperties.PROPERTIES_PREFIX;
+
+/**
+ * Records a fingerprint of everything a specification was last converted from, i.e. the specification itself,
+ * the files it references through {@code $ref}, the effective configuration and the plugin version, together with the
+ * files it was converted to. A specification whose fingerprint matches the previous run, and whose files all still
+ * exist, does not need to be converted again.
+ */
+class IncrementalManifest {
+
+    private static final String OUTPUTS_SUFFIX = "#outputs";
+    private static final Pattern EXTERNAL_REF_PATTERN = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s#,}]*)");
+
+    private final Path manifestFile;
+    private final String configFingerprint;
+    private final Properties previousFingerprints;
+    private final Properties currentFingerprints = new Properties();
+
+    private IncrementalManifest(Path manifestFile, String configFingerprint, Properties previousFingerprints) {
+        this.manifestFile = manifestFile;
+        this.configFingerprint = configFingerprint;
+        this.previousFingerprints = previousFingerprints;
+    }
+
+    /**
+     * Loads the manifest written by the previous run, or starts an empty one if there is none.
+     *
+     * @param manifestFile      the manifest location
+     * @param configFingerprint the fingerprint of the configuration of this run, see {@link #configFingerprint}
+     * @return the manifest
+     * @throws IOException if an existing manifest can not be read
+     */
+    static IncrementalManifest load(Path manifestFile, String configFingerprint) throws IOException {
+        Properties previousFingerprints = new Properties();
+        if (Files.isRegularFile(manifestFile)) {
+            try (Reader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+                previousFingerprints.load(reader);
+            }
+        }
+        return new IncrementalManifest(manifestFile, configFingerprint, previousFingerprints);
+    }
+
+    /**
+     * Returns whether a specification was converted from the same input by the previous run, and all the files it was
+     * converted to still exist. Generated files usually live outside the build directory, so they may have been
+     * deleted since.
+     *
+     * @param swaggerFile the specification
+     * @param fingerprint the fingerprint of this run
+     * @return true if the specification does not need to be converted again
+     */
+    boolean isUpToDate(File swaggerFile, String fingerprint) {
+        if (!fingerprint.equals(previousFingerprints.getProperty(key(swaggerFile)))
+                || previousFingerprints.getProperty(key(swaggerFile) + OUTPUTS_SUFFIX) == null) {
+            return false;
+        }
+        return getOutputs(swaggerFile).stream().allMatch(Files::isRegularFile);
+    }
+
+    /**
+     * Returns the files a specification was converted to by the previous run.
+     *
+     * @param swaggerFile the specification
+     * @return the output files
+     */
+    List<Path> getOutputs(File swaggerFile) {
+        String outputs = previousFingerprints.getProperty(key(swaggerFile) + OUTPUTS_SUFFIX, "");
+        return outputs.lines().map(Paths::get).collect(Collectors.toList());
+    }
+
+    synchronized void record(File swaggerFile, String fingerprint, List<Path> outputs) {
+        currentFingerprints.setProperty(key(swaggerFile), fingerprint);
+        currentFingerprints.setProperty(key(swaggerFile) + OUTPUTS_SUFFIX, outputs.stream()
+                .map(output -> output.toAbsolutePath().normalize().toString())
+                .collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * Writes the fingerprints recorded during this run. Specifications that failed or were not part of this run
+     * are dropped, so they are converted again next time.
+     *
+     * @throws IOException if the manifest can not be written
+     */
+    synchronized void store() throws IOException {
+        if (manifestFile.getParent() != null) {
+            Files.createDirectories(manifestFile.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+            currentFingerprints.store(writer, "openapi2asciidoc incremental build manifest");
+        }
+    }
+
+    /**
+     * Computes the fingerprint of a specification, following relative {@code $ref}s transitively.
+     *
+     * @param swaggerFile the specification
+     * @return the fingerprint as hex string
+     * @throws IOException if one of the files can not be read
+     */
+    String fingerprint(File swaggerFile) throws IOException {
+        MessageDigest digest = newDigest();
+        digest.update(configFingerprint.getBytes(StandardCharsets.UTF_8));
+
+        Set<Path> visited = new HashSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.push(swaggerFile.toPath().toAbsolutePath().normalize());
+        while (!pending.isEmpty()) {
+            Path file = pending.pop();
+            if (!visited.add(file)) {
+                continue;
+            }
+            digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+            if (!Files.isRegularFile(file)) {
+                digest.update((byte) 0);
+                continue;
+            }
+            byte[] content = Files.readAllBytes(file);
+            digest.update(content);
+
+            Matcher matcher = EXTERNAL_REF_PATTERN.matcher(new String(content, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String ref = matcher.group(1);
+                if (ref.isEmpty()) {
+                    continue;
+                }
+                if (ref.contains("://")) {
+                    // remote references can not be checked cheaply, the URL itself is part of the file content
+                    continue;
+                }
+                pending.push(file.resolveSibling(ref).normalize());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes the fingerprint of the effective configuration, resolved the same way the config builder does:
+     * system properties override the plugin configuration, which overrides the defaults.
+     *
+     * @param config the plugin configuration
+     * @param extras additional values the output depends on, e.g. the plugin version and output locations
+     * @return the fingerprint as hex string
+     */
+    static String configFingerprint(Map<String, String> config, Object... extras) {
+        SortedMap<String, String> effectiveConfig = new TreeMap<>();
+        Configuration defaults = Schema2MarkupConfigBuilder.getDefaultConfiguration();
+        defaults.getKeys().forEachRemaining(key -> effectiveConfig.put(key, defaults.getString(key)));
+        effectiveConfig.putAll(config);
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith(PROPERTIES_PREFIX))
+                .forEach(key -> effectiveConfig.put(key, System.getProperty(key)));
+
+        MessageDigest digest = newDigest();
+        effectiveConfig.forEach((key, value) -> digest.update((key + '=' + value + '\n').getBytes(StandardCharsets.UTF_8)));
+        for (Object extra : extras) {
+            digest.update((String.valueOf(extra) + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String key(File swaggerFile) {
+        return swaggerFile.getAbsolutePath();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
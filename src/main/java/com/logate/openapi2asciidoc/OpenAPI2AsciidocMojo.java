@@ -16,10 +16,10 @@ package com.logate.openapi2asciidoc;
  * limitations under the License.
  */
 
+import com.logate.openapi2asciidoc.openapi2markup.ConversionSession;
 import com.logate.openapi2asciidoc.openapi2markup.OpenAPI2MarkupConverter;
-import com.logate.openapi2asciidoc.openapi2markup.OpenSchema2MarkupConfig;
 import com.logate.openapi2asciidoc.openapi2markup.config.builder.OpenAPI2MarkupConfigBuilder;
-import org.apache.commons.io.FileUtils;
+import com.logate.openapi2asciidoc.swagger2markup.core.config.Schema2MarkupConfig;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.client.utils.URIBuilder;
@@ -32,9 +32,17 @@ import org.apache.maven.plugins.annotations.Parameter;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Goal which touches a timestamp file.
@@ -61,6 +69,41 @@ public class OpenAPI2AsciidocMojo extends AbstractMojo
     @Parameter(property = "skip")
     protected boolean skip;
 
+    /**
+     * Number of specifications converted in parallel when {@code swaggerInput} is a folder.
+     * Values lower than one fall back to the number of available processors.
+     */
+    @Parameter(property = "threads")
+    protected int threads;
+
+    /**
+     * Skips local specifications whose content, referenced files, configuration and plugin version did not change
+     * since the previous run. Their outputs are left untouched.
+     */
+    @Parameter(property = "incremental")
+    protected boolean incremental;
+
+    /**
+     * Glob patterns, relative to {@code swaggerInput}, of the files to convert when it is a folder, e.g.
+     * {@code specs/*.yaml}. All YAML and JSON files are considered if empty.
+     */
+    @Parameter
+    protected List<String> includes = new ArrayList<>();
+
+    /**
+     * Glob patterns, relative to {@code swaggerInput}, of the files not to convert when it is a folder.
+     */
+    @Parameter
+    protected List<String> excludes = new ArrayList<>();
+
+    @Parameter(defaultValue = "${project.build.directory}", readonly = true)
+    protected File buildDirectory;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    protected String pluginVersion;
+
+    private SwaggerInputIndex swaggerInputIndex;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
 
@@ -74,36 +117,173 @@ public class OpenAPI2AsciidocMojo extends AbstractMojo
             getLog().debug("swaggerInput: " + swaggerInput);
             getLog().debug("outputDir: " + outputDir);
             getLog().debug("outputFile: " + outputFile);
+            getLog().debug("threads: " + threads);
+            getLog().debug("incremental: " + incremental);
+            getLog().debug("includes: " + includes);
+            getLog().debug("excludes: " + excludes);
             for (Map.Entry<String, String> entry : this.config.entrySet()) {
                 getLog().debug(entry.getKey() + ": " + entry.getValue());
             }
         }
 
+        Map<File, Throwable> failures = new LinkedHashMap<>();
         try {
-            OpenSchema2MarkupConfig openSchema2MarkupConfig = new OpenAPI2MarkupConfigBuilder(config).build();
-            if (isLocalFolder(swaggerInput)) {
-                getSwaggerFiles(new File(swaggerInput), true).forEach(f -> {
-                    OpenAPI2MarkupConverter converter = OpenAPI2MarkupConverter.from(f.toURI())
-                            .withConfig(openSchema2MarkupConfig)
-                            .build();
-                    openapiToMarkup(converter, true);
-                });
+            ConversionSession session = new ConversionSession(new OpenAPI2MarkupConfigBuilder(config).build());
+            boolean inputIsLocalFolder = isLocalFolder(swaggerInput);
+            boolean useManifest = incremental;
+            if (incremental && inputIsLocalFolder && isConvertingToOneFile()) {
+                /*
+                 * The file holds whatever specification was converted last, so skipping an unchanged one, or no
+                 * longer converting a deleted one, could leave the output of another one behind.
+                 */
+                getLog().warn("Incremental conversion is disabled, all specifications in " + swaggerInput
+                        + " are converted to the same outputFile: " + outputFile);
+                useManifest = false;
+            }
+            IncrementalManifest manifest = useManifest ? IncrementalManifest.load(getManifestFile(), getConfigFingerprint()) : null;
+            if (inputIsLocalFolder) {
+                swaggerInputIndex = SwaggerInputIndex.build(new File(swaggerInput), includes, excludes);
+                if (getLog().isInfoEnabled()) {
+                    swaggerInputIndex.getSkippedFiles().forEach(f ->
+                            getLog().info("Skipping input, not an OpenAPI or Swagger document: " + f));
+                }
+                failures = convertSwaggerFiles(swaggerInputIndex.getSwaggerFiles(), session, manifest);
+            } else if (manifest != null && isLocalFile(swaggerInput)) {
+                File swaggerFile = new File(swaggerInput);
+                ConversionResult result = convertSwaggerFile(swaggerFile, session, manifest, false);
+                collectResult(swaggerFile, result, manifest, failures);
             } else {
-                OpenAPI2MarkupConverter converter = OpenAPI2MarkupConverter.from(new URIBuilder(swaggerInput).build())
-                        .withConfig(openSchema2MarkupConfig).build();
-                openapiToMarkup(converter, false);
+                session.convert(new URIBuilder(swaggerInput).build(),
+                        converter -> openapiToMarkup(converter, false, getLog()::info, output -> { }));
+            }
+            if (manifest != null) {
+                manifest.store();
             }
+        } catch (MojoExecutionException e) {
+            // already describes the failure, e.g. an interrupted conversion, which must stay visible to Maven
+            if (e.getCause() instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw e;
         } catch (Exception e) {
             throw new MojoFailureException("Failed to execute goal 'convertOpenapi2Asciidoc'", e);
         }
+        if (!failures.isEmpty()) {
+            failures.forEach((file, failure) -> getLog().error("Failed to convert " + file, failure));
+            throw new MojoFailureException("Failed to execute goal 'convertOpenapi2Asciidoc': " + failures.size()
+                    + " specification(s) could not be converted: " + failures.keySet().stream()
+                    .map(File::getPath).collect(Collectors.joining(", ")));
+        }
         getLog().debug("convertOpenapi2Asciidoc goal finished");
     }
 
+    /*
+     * Converts every file on a bounded pool. Each task buffers its log messages so that they can be replayed in
+     * input order once the task is done, which keeps the build log deterministic regardless of scheduling. All tasks
+     * share the session, so the configuration, extensions and labels are only set up once.
+     */
+    private Map<File, Throwable> convertSwaggerFiles(List<File> sortedSwaggerFiles,
+                                                     ConversionSession session,
+                                                     IncrementalManifest manifest)
+            throws MojoExecutionException {
+        Map<File, Throwable> failures = new LinkedHashMap<>();
+        if (sortedSwaggerFiles.isEmpty()) {
+            return failures;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(getEffectiveThreads(), sortedSwaggerFiles.size()));
+        try {
+            List<Future<ConversionResult>> results = new ArrayList<>();
+            for (File swaggerFile : sortedSwaggerFiles) {
+                results.add(executor.submit(() -> convertSwaggerFile(swaggerFile, session, manifest, true)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                File swaggerFile = sortedSwaggerFiles.get(i);
+                try {
+                    collectResult(swaggerFile, results.get(i).get(), manifest, failures);
+                } catch (ExecutionException e) {
+                    failures.put(swaggerFile, e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while converting " + swaggerInput, e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return failures;
+    }
+
+    private ConversionResult convertSwaggerFile(File swaggerFile, ConversionSession session,
+                                                IncrementalManifest manifest, boolean inputIsLocalFolder) {
+        List<String> messages = new ArrayList<>();
+        List<Path> outputs = new ArrayList<>();
+        String fingerprint = null;
+        try {
+            if (manifest != null) {
+                fingerprint = manifest.fingerprint(swaggerFile);
+                if (manifest.isUpToDate(swaggerFile, fingerprint)) {
+                    messages.add("Skipping unchanged input: " + swaggerFile);
+                    return new ConversionResult(messages, fingerprint, manifest.getOutputs(swaggerFile), null);
+                }
+            }
+            session.convert(swaggerFile.toURI(),
+                    converter -> openapiToMarkup(converter, inputIsLocalFolder, messages::add, outputs::add));
+            return new ConversionResult(messages, fingerprint, outputs, null);
+        } catch (Exception e) {
+            return new ConversionResult(messages, fingerprint, outputs, e);
+        }
+    }
+
+    private void collectResult(File swaggerFile, ConversionResult result, IncrementalManifest manifest,
+                               Map<File, Throwable> failures) {
+        result.messages.forEach(getLog()::info);
+        if (result.failure != null) {
+            failures.put(swaggerFile, result.failure);
+        } else if (manifest != null) {
+            manifest.record(swaggerFile, result.fingerprint, result.outputs);
+        }
+    }
+
+    private String getConfigFingerprint() {
+        return IncrementalManifest.configFingerprint(config, pluginVersion, outputDir, outputFile);
+    }
+
+    private Path getManifestFile() {
+        File directory = buildDirectory != null ? buildDirectory : new File("target");
+        return directory.toPath().resolve("openapi2asciidoc").resolve("incremental-manifest.properties");
+    }
+
+    private int getEffectiveThreads() {
+        if (isConvertingToOneFile()) {
+            /*
+             * All conversions target the very same file, where the last file converted wins. Running them
+             * concurrently would interleave writes, so keep them sequential.
+             */
+            return 1;
+        }
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    private boolean isConvertingToOneFile() {
+        return outputFile != null && outputDir == null;
+    }
+
     private boolean isLocalFolder(String swaggerInput) {
         return !swaggerInput.toLowerCase().startsWith("http") && new File(swaggerInput).isDirectory();
     }
 
-    private void openapiToMarkup(OpenAPI2MarkupConverter converter, boolean inputIsLocalFolder) {
+    private boolean isLocalFile(String swaggerInput) {
+        return !swaggerInput.toLowerCase().startsWith("http") && new File(swaggerInput).isFile();
+    }
+
+    /*
+     * Converts a specification and reports the files written, so that an incremental build notices when they are
+     * deleted.
+     */
+    private void openapiToMarkup(OpenAPI2MarkupConverter converter, boolean inputIsLocalFolder, Consumer<String> infoLog,
+                                 Consumer<Path> outputs) {
+        Schema2MarkupConfig converterConfig = converter.getContext().getConfig();
+        String fileExtension = converterConfig.getMarkupLanguage().getFileNameExtensions().get(0);
         if (outputFile != null) {
             Path useFile = outputFile.toPath();
             /*
@@ -116,25 +296,29 @@ public class OpenAPI2AsciidocMojo extends AbstractMojo
              */
             if (inputIsLocalFolder) {
                 if ( outputDir != null ) {
-                    File effectiveOutputDir = outputDir;
-                    effectiveOutputDir = getEffectiveOutputDirWhenInputIsAFolder(converter);
-                    converter.getContext().setOutputPath(effectiveOutputDir.toPath());
+                    File effectiveOutputDir = getEffectiveOutputDirWhenInputIsAFolder(converter);
                     useFile =  Paths.get(effectiveOutputDir.getPath(), useFile.getFileName().toString());
                 }
             }
             if ( getLog().isInfoEnabled() ) {
-                getLog().info("Converting input to one file: " + useFile);
+                infoLog.accept("Converting input to one file: " + useFile);
             }
             converter.toFile(useFile);
+            outputs.accept(useFile.resolveSibling(useFile.getFileName() + fileExtension));
         } else if (outputDir != null) {
             File effectiveOutputDir = outputDir;
             if (inputIsLocalFolder) {
                 effectiveOutputDir = getEffectiveOutputDirWhenInputIsAFolder(converter);
             }
             if (getLog().isInfoEnabled()) {
-                getLog().info("Converting input to multiple files in folder: '" + effectiveOutputDir + "'");
+                infoLog.accept("Converting input to multiple files in folder: '" + effectiveOutputDir + "'");
             }
-            converter.toFolder(effectiveOutputDir.toPath());
+            Path folder = effectiveOutputDir.toPath();
+            converter.toFolder(folder);
+            outputs.accept(folder.resolve(converterConfig.getOverviewDocument() + fileExtension));
+            outputs.accept(folder.resolve(converterConfig.getPathsDocument() + fileExtension));
+            outputs.accept(folder.resolve(converterConfig.getDefinitionsDocument() + fileExtension));
+            outputs.accept(folder.resolve(converterConfig.getSecurityDocument() + fileExtension));
         } else {
             throw new IllegalArgumentException("Either outputFile or outputDir parameter must be used");
         }
@@ -168,19 +352,14 @@ public class OpenAPI2AsciidocMojo extends AbstractMojo
     }
 
     private boolean multipleSwaggerFilesInSwaggerLocationFolder(OpenAPI2MarkupConverter converter) {
-        Collection<File> swaggerFiles = getSwaggerFiles(new File(converter.getContext().getSwaggerLocation())
-                .getParentFile(), false);
-        return swaggerFiles != null && swaggerFiles.size() > 1;
+        return swaggerInputIndex.getSwaggerFileCount(new File(converter.getContext().getSwaggerLocation())
+                .getParentFile()) > 1;
     }
 
     private String extractSwaggerFileNameWithoutExtension(OpenAPI2MarkupConverter converter) {
         return FilenameUtils.removeExtension(new File(converter.getContext().getSwaggerLocation()).getName());
     }
 
-    private Collection<File> getSwaggerFiles(File directory, boolean recursive) {
-        return FileUtils.listFiles(directory, new String[]{"yaml", "yml", "json"}, recursive);
-    }
-
     /*
      * The 'swaggerInput' provided by the user can be anything; it's just a string. Hence, it could by Unix-style,
      * Windows-style or even a mix thereof. This methods turns the input into a File and returns its absolute path. It
@@ -189,4 +368,18 @@ public class OpenAPI2AsciidocMojo extends AbstractMojo
     private String getSwaggerInputAbsolutePath(){
         return new File(swaggerInput).getAbsolutePath();
     }
+
+    private static final class ConversionResult {
+        private final List<String> messages;
+        private final String fingerprint;
+        private final List<Path> outputs;
+        private final Throwable failure;
+
+        private ConversionResult(List<String> messages, String fingerprint, List<Path> outputs, Throwable failure) {
+            this.messages = messages;
+            this.fingerprint = fingerprint;
+            this.outputs = outputs;
+            this.failure = failure;
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package com.logate.openapi2asciidoc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Cheap check whether a YAML or JSON file is an OpenAPI or Swagger document. Only the first few KB of the file are
+ * tokenized, looking for a top-level {@code openapi} or {@code swagger} key, so that files like Helm charts or
+ * {@code package.json} never reach the full parser.
+ */
+final class OpenAPIDocumentSniffer {
+
+    static final int SNIFF_LIMIT = 16 * 1024;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
+
+    private OpenAPIDocumentSniffer() {
+    }
+
+    /**
+     * Returns whether the file looks like an OpenAPI or Swagger document. A document whose top-level object is not
+     * finished within {@link #SNIFF_LIMIT} bytes is accepted, leaving the decision to the full parser, and so is a
+     * document which is not well-formed, so that the full parser reports the error.
+     *
+     * @param file the YAML or JSON file
+     * @return true if the file is, or might be, an OpenAPI or Swagger document
+     * @throws IOException if the file can not be read
+     */
+    static boolean isOpenAPIDocument(Path file) throws IOException {
+        byte[] prefix;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            prefix = inputStream.readNBytes(SNIFF_LIMIT + 1);
+        }
+        boolean truncated = prefix.length > SNIFF_LIMIT;
+        int length = Math.min(prefix.length, SNIFF_LIMIT);
+
+        JsonFactory factory = file.getFileName().toString().endsWith(".json") ? JSON_FACTORY : YAML_FACTORY;
+        try (JsonParser parser = factory.createParser(prefix, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                if ("openapi".equals(name) || "swagger".equals(name)) {
+                    return true;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            // the key may come after the prefix: the YAML parser closes the open mappings at the end of a cut off
+            // prefix, so the object seems to end even if the input was truncated
+            return truncated;
+        } catch (IOException e) {
+            // a broken specification must fail the build rather than be skipped silently
+            return true;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.logate.openapi2asciidoc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Index of the Swagger files below an input folder, built with a single walk of the file tree. It maps every
+ * folder to the number of YAML and JSON files it directly contains, so output path decisions don't need to list the
+ * folder of each converted file again.
+ * <p>
+ * Only YAML and JSON files matching the include and exclude glob patterns, and recognized by
+ * {@link OpenAPIDocumentSniffer}, are converted. The counts per folder include all YAML and JSON files, so that the
+ * output layout does not depend on the filters.
+ */
+class SwaggerInputIndex {
+
+    private static final String[] SWAGGER_FILE_EXTENSIONS = new String[]{".yaml", ".yml", ".json"};
+
+    private final List<File> swaggerFiles;
+    private final List<File> skippedFiles;
+    private final Map<Path, Integer> swaggerFileCountByFolder;
+
+    private SwaggerInputIndex(List<File> swaggerFiles, List<File> skippedFiles,
+                              Map<Path, Integer> swaggerFileCountByFolder) {
+        this.swaggerFiles = swaggerFiles;
+        this.skippedFiles = skippedFiles;
+        this.swaggerFileCountByFolder = swaggerFileCountByFolder;
+    }
+
+    /**
+     * Walks the given folder recursively and indexes all Swagger files.
+     *
+     * @param directory the input folder
+     * @param includes  glob patterns, relative to the input folder, of the files to index. All files if empty.
+     * @param excludes  glob patterns, relative to the input folder, of the files not to index
+     * @return the index
+     * @throws IOException if the folder, or a file or folder below it, can not be read
+     */
+    static SwaggerInputIndex build(File directory, List<String> includes, List<String> excludes) throws IOException {
+        Path root = directory.toPath().toAbsolutePath();
+        List<PathMatcher> includeMatchers = toPathMatchers(includes);
+        List<PathMatcher> excludeMatchers = toPathMatchers(excludes);
+        List<File> swaggerFiles = new ArrayList<>();
+        List<File> skippedFiles = new ArrayList<>();
+        Map<Path, Integer> swaggerFileCountByFolder = new HashMap<>();
+        Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS),
+                Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!attrs.isRegularFile() || !isSwaggerFile(file)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                swaggerFileCountByFolder.merge(file.getParent().normalize(), 1, Integer::sum);
+                Path relativePath = root.relativize(file);
+                if ((!includeMatchers.isEmpty() && !matchesAny(includeMatchers, relativePath))
+                        || matchesAny(excludeMatchers, relativePath)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                if (isOpenAPIDocument(file)) {
+                    swaggerFiles.add(file.toFile());
+                } else {
+                    skippedFiles.add(file.toFile());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                // an unreadable file or folder would otherwise silently drop its specifications from the run
+                throw new IOException("Failed to read input " + file, exc);
+            }
+        });
+        Collections.sort(swaggerFiles);
+        Collections.sort(skippedFiles);
+        return new SwaggerInputIndex(Collections.unmodifiableList(swaggerFiles),
+                Collections.unmodifiableList(skippedFiles), swaggerFileCountByFolder);
+    }
+
+    /**
+     * Returns all Swagger files below the input folder, sorted by path.
+     *
+     * @return the Swagger files
+     */
+    List<File> getSwaggerFiles() {
+        return swaggerFiles;
+    }
+
+    /**
+     * Returns the YAML and JSON files which passed the glob patterns but are not OpenAPI or Swagger documents.
+     *
+     * @return the skipped files
+     */
+    List<File> getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    /**
+     * Returns the number of YAML and JSON files directly contained in the given folder, including those which are
+     * excluded by the glob patterns or are not OpenAPI or Swagger documents.
+     *
+     * @param folder the folder
+     * @return the number of YAML and JSON files
+     */
+    int getSwaggerFileCount(File folder) {
+        return swaggerFileCountByFolder.getOrDefault(folder.toPath().toAbsolutePath().normalize(), 0);
+    }
+
+    private static boolean isSwaggerFile(Path file) {
+        String fileName = file.getFileName().toString();
+        for (String extension : SWAGGER_FILE_EXTENSIONS) {
+            if (fileName.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOpenAPIDocument(Path file) {
+        try {
+            return OpenAPIDocumentSniffer.isOpenAPIDocument(file);
+        } catch (IOException e) {
+            // leave it to the parser to report the problem
+            return true;
+        }
+    }
+
+    private static List<PathMatcher> toPathMatchers(List<String> globs) {
+        if (globs == null) {
+            return Collections.emptyList();
+        }
+        return globs.stream()
+                .map(glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean matchesAny(List<PathMatcher> matchers, Path path) {
+        return matchers.stream().anyMatch(matcher -> matcher.matches(path));
+    }
+}
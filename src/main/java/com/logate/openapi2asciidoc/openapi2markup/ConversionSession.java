@@ -0,0 +1,123 @@
+package com.logate.openapi2asciidoc.openapi2markup;
+
+import com.logate.openapi2asciidoc.openapi2markup.config.OpenAPILabels;
+import com.logate.openapi2asciidoc.openapi2markup.config.builder.OpenAPI2MarkupConfigBuilder;
+import com.logate.openapi2asciidoc.openapi2markup.extension.OpenAPI2MarkupExtensionRegistry;
+import com.logate.openapi2asciidoc.openapi2markup.extension.builder.OpenAPI2MarkupExtensionRegistryBuilder;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.lang3.Validate;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Converts many specifications with the same configuration. The configuration, the extension registry and the labels
+ * are set up once per session instead of once per specification. Everything which belongs to a single specification,
+ * i.e. the model, the schema document cache and the ref anchor index, lives in the
+ * {@link OpenAPI2MarkupConverter.OpenAPIContext} of its own converter.
+ * <p>
+ * A session can be used by several threads at once. Extensions are given the context of the specification they are
+ * applied to, so while any extension is registered, the conversions of a session run one at a time. The
+ * specifications are still parsed concurrently.
+ * <pre>{@code
+ * ConversionSession session = new ConversionSession(config);
+ * for (Path spec : specs) {
+ *     session.convert(spec, converter -> converter.toFolder(outputDirectory.resolve(spec.getFileName())));
+ * }
+ * }</pre>
+ */
+public class ConversionSession {
+
+    private final OpenSchema2MarkupConfig config;
+    private final OpenAPI2MarkupExtensionRegistry extensionRegistry;
+    private final OpenAPILabels labels;
+    private final boolean extensionsRegistered;
+
+    /**
+     * Creates a session with the default configuration and the extensions found by the {@link java.util.ServiceLoader}.
+     */
+    public ConversionSession() {
+        this(new OpenAPI2MarkupConfigBuilder().build());
+    }
+
+    /**
+     * Creates a session with the extensions found by the {@link java.util.ServiceLoader}.
+     *
+     * @param config the configuration
+     */
+    public ConversionSession(OpenSchema2MarkupConfig config) {
+        this(config, new OpenAPI2MarkupExtensionRegistryBuilder().build());
+    }
+
+    /**
+     * Creates a session.
+     *
+     * @param config            the configuration
+     * @param extensionRegistry the extensions
+     */
+    public ConversionSession(OpenSchema2MarkupConfig config, OpenAPI2MarkupExtensionRegistry extensionRegistry) {
+        Validate.notNull(config, "config must not be null");
+        Validate.notNull(extensionRegistry, "extensionRegistry must not be null");
+        this.config = config;
+        this.extensionRegistry = extensionRegistry;
+        this.labels = new OpenAPILabels(config);
+        this.extensionsRegistered = !extensionRegistry.getSwaggerModelExtensions().isEmpty()
+                || !extensionRegistry.getOverviewDocumentExtensions().isEmpty()
+                || !extensionRegistry.getDefinitionsDocumentExtensions().isEmpty()
+                || !extensionRegistry.getPathsDocumentExtensions().isEmpty()
+                || !extensionRegistry.getSecurityDocumentExtensions().isEmpty();
+    }
+
+    public OpenSchema2MarkupConfig getConfig() {
+        return config;
+    }
+
+    public OpenAPI2MarkupExtensionRegistry getExtensionRegistry() {
+        return extensionRegistry;
+    }
+
+    /**
+     * Converts the specification at a URI.
+     *
+     * @param swaggerUri the URI
+     * @param conversion writes the output of the converter
+     */
+    public void convert(URI swaggerUri, Consumer<OpenAPI2MarkupConverter> conversion) {
+        convert(OpenAPI2MarkupConverter.from(swaggerUri), conversion);
+    }
+
+    /**
+     * Converts the specification at a local Path.
+     *
+     * @param swaggerPath the local Path
+     * @param conversion  writes the output of the converter
+     */
+    public void convert(Path swaggerPath, Consumer<OpenAPI2MarkupConverter> conversion) {
+        convert(OpenAPI2MarkupConverter.from(swaggerPath), conversion);
+    }
+
+    /**
+     * Converts a given Swagger model.
+     *
+     * @param openAPI    the Swagger model
+     * @param conversion writes the output of the converter
+     */
+    public void convert(OpenAPI openAPI, Consumer<OpenAPI2MarkupConverter> conversion) {
+        convert(OpenAPI2MarkupConverter.from(openAPI), conversion);
+    }
+
+    private void convert(OpenAPI2MarkupConverter.Builder builder, Consumer<OpenAPI2MarkupConverter> conversion) {
+        Validate.notNull(conversion, "conversion must not be null");
+        builder.withConfig(config)
+                .withExtensionRegistry(extensionRegistry)
+                .withLabels(labels);
+        if (extensionsRegistered) {
+            synchronized (this) {
+                conversion.accept(builder.build());
+            }
+        } else {
+            conversion.accept(builder.build());
+        }
+    }
+}
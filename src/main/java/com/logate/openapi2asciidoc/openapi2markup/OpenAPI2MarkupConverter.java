@@ -19,6 +19,7 @@ import com.logate.openapi2asciidoc.openapi2markup.config.OpenAPILabels;
 import com.logate.openapi2asciidoc.openapi2markup.config.builder.OpenAPI2MarkupConfigBuilder;
 import com.logate.openapi2asciidoc.openapi2markup.extension.OpenAPI2MarkupExtensionRegistry;
 import com.logate.openapi2asciidoc.openapi2markup.extension.builder.OpenAPI2MarkupExtensionRegistryBuilder;
+import com.logate.openapi2asciidoc.openapi2markup.internal.component.SchemaDocumentCache;
 import com.logate.openapi2asciidoc.openapi2markup.internal.document.ComponentsDocument;
 import com.logate.openapi2asciidoc.openapi2markup.internal.document.OverviewDocument;
 import com.logate.openapi2asciidoc.openapi2markup.internal.document.PathsDocument;
@@ -46,6 +47,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<OpenAPI> {
     private final OverviewDocument overviewDocument;
@@ -166,31 +172,58 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
     @Override
     public void toFolder(Path outputDirectory) {
         Validate.notNull(outputDirectory, "outputDirectory must not be null");
-        openAPIContext.setOutputPath(outputDirectory);
-        writeToFile(applyOverviewDocument(), outputDirectory.resolve(openAPIContext.config.getOverviewDocument()));
-        writeToFile(applyPathsDocument(), outputDirectory.resolve(openAPIContext.config.getPathsDocument()));
-        writeToFile(applyComponentsDocument(), outputDirectory.resolve(openAPIContext.config.getDefinitionsDocument()));
-        writeToFile(applySecurityDocument(), outputDirectory.resolve(openAPIContext.config.getSecurityDocument()));
+        // the output path is part of the context the documents are built with, so they are built for this run only
+        OpenAPIContext runContext = openAPIContext.withOutputPath(outputDirectory);
+        // extensions see the output path of this run, as the documents do
+        initExtensions(runContext);
+        OpenAPI2MarkupConverter folderConverter = new OpenAPI2MarkupConverter(runContext);
+        List<Runnable> writes = List.of(
+                () -> writeToFile(List.of(folderConverter::applyOverviewDocument), outputDirectory.resolve(openAPIContext.config.getOverviewDocument())),
+                () -> writeToFile(List.of(folderConverter::applyPathsDocument), outputDirectory.resolve(openAPIContext.config.getPathsDocument())),
+                () -> writeToFile(List.of(folderConverter::applyComponentsDocument), outputDirectory.resolve(openAPIContext.config.getDefinitionsDocument())),
+                () -> writeToFile(List.of(folderConverter::applySecurityDocument), outputDirectory.resolve(openAPIContext.config.getSecurityDocument())));
+        if (openAPIContext.config.isConcurrentDocumentsEnabled()) {
+            runConcurrently(writes);
+        } else {
+            writes.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Runs the given document writes on the common pool and waits for all of them, so that no file is left half
+     * written when this method returns. The first failure is rethrown.
+     */
+    private static void runConcurrently(List<Runnable> writes) {
+        List<CompletableFuture<Void>> futures = writes.stream()
+                .map(CompletableFuture::runAsync)
+                .collect(Collectors.toList());
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     @Override
     public void toFile(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        writeToFile(applyOverviewDocument(), outputFile);
-        writeToFile(applyPathsDocument(), outputFile);
-        writeToFile(applyComponentsDocument(), outputFile);
-        writeToFile(applySecurityDocument(), outputFile);
+        writeToFile(allDocuments(), outputFile);
     }
 
     @Override
     public void toFileWithoutExtension(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        writeToFileWithoutExtension(applyOverviewDocument(), outputFile);
-        writeToFileWithoutExtension(applyPathsDocument(), outputFile);
-        writeToFileWithoutExtension(applyComponentsDocument(), outputFile);
-        writeToFileWithoutExtension(applySecurityDocument(), outputFile);
+        writeToFileWithoutExtension(allDocuments(), outputFile);
     }
 
     @Override
@@ -201,6 +234,18 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
                 applySecurityDocument().convert();
     }
 
+    /**
+     * Returns the documents making up a single file output, in order. They are built lazily, so that a document can
+     * be released as soon as it has been written.
+     */
+    private List<Supplier<Document>> allDocuments() {
+        return List.of(
+                this::applyOverviewDocument,
+                this::applyPathsDocument,
+                this::applyComponentsDocument,
+                this::applySecurityDocument);
+    }
+
     private Document applyOverviewDocument() {
         return overviewDocument.apply(
                 openAPIContext.createDocument(),
@@ -225,11 +270,11 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
                 SecurityDocument.parameters(openAPIContext.getSchema()));
     }
 
-    private void writeToFile(Document document, Path path) {
+    private void writeToFile(List<Supplier<Document>> documents, Path path) {
         MarkupLanguage markupLanguage = openAPIContext.config.getMarkupLanguage();
         if (isMarkupLanguageSupported(markupLanguage)) {
             String fileExtension = markupLanguage.getFileNameExtensions().get(0);
-            writeToFileWithoutExtension(document, path.resolveSibling(path.getFileName().toString() + fileExtension));
+            writeToFileWithoutExtension(documents, path.resolveSibling(path.getFileName().toString() + fileExtension));
         } else {
             throw new RuntimeException("Given Markup language '"+markupLanguage+"' is not supported by "+getClass().getName());
         }
@@ -239,7 +284,7 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
         return markupLanguage == MarkupLanguage.ASCIIDOC;
     }
 
-    private void writeToFileWithoutExtension(Document document, Path file) {
+    private void writeToFileWithoutExtension(List<Supplier<Document>> documents, Path file) {
         if (file.getParent() != null) {
             try {
                 Files.createDirectories(file.getParent());
@@ -248,7 +293,14 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
             }
         }
         try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
-            writer.write(document.convert());
+            for (Supplier<Document> supplier : documents) {
+                Document document = supplier.get();
+                if (document instanceof DocumentImpl) {
+                    ((DocumentImpl) document).convert(writer);
+                } else {
+                    writer.write(document.convert());
+                }
+            }
         } catch (IOException e) {
             throw new RuntimeException("Failed to write file", e);
         }
@@ -257,16 +309,54 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
         }
     }
 
+    private static void initExtensions(OpenAPIContext context) {
+        OpenAPI2MarkupExtensionRegistry extensionRegistry = context.getExtensionRegistry();
+        extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getPathsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getSecurityDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+    }
+
+    /**
+     * The state of the conversion of a single specification. The context is immutable and all it shares, i.e. the
+     * schema document cache and the ref anchor index, can be used by several threads at once, so the documents of a
+     * specification can be built concurrently.
+     */
     public static class OpenAPIContext extends Context<OpenAPI> {
-        private OpenSchema2MarkupConfig config;
-        private OpenAPI2MarkupExtensionRegistry extensionRegistry;
+        private final OpenSchema2MarkupConfig config;
+        private final OpenAPI2MarkupExtensionRegistry extensionRegistry;
+        private final SchemaDocumentCache schemaDocumentCache;
+        private final RefAnchorIndex refAnchorIndex;
 
         public OpenAPIContext(OpenSchema2MarkupConfig config,
                               OpenAPI2MarkupExtensionRegistry extensionRegistry,
                               OpenAPI schema, URI swaggerLocation, Labels labels) {
-            super(config, extensionRegistry, schema, swaggerLocation, labels);
+            this(config, extensionRegistry, schema, swaggerLocation, labels, null,
+                    new SchemaDocumentCache(), RefAnchorIndex.of(schema));
+        }
+
+        private OpenAPIContext(OpenSchema2MarkupConfig config,
+                               OpenAPI2MarkupExtensionRegistry extensionRegistry,
+                               OpenAPI schema, URI swaggerLocation, Labels labels, Path outputPath,
+                               SchemaDocumentCache schemaDocumentCache, RefAnchorIndex refAnchorIndex) {
+            super(config, extensionRegistry, schema, swaggerLocation, labels, outputPath);
             this.config = config;
             this.extensionRegistry = extensionRegistry;
+            this.schemaDocumentCache = schemaDocumentCache;
+            this.refAnchorIndex = refAnchorIndex;
+        }
+
+        /**
+         * Returns a copy of this context which writes to the given folder. The copy shares the schema document cache
+         * and the ref anchor index, which do not depend on the output path.
+         *
+         * @param outputPath the output path
+         * @return the copy
+         */
+        public OpenAPIContext withOutputPath(Path outputPath) {
+            return new OpenAPIContext(config, extensionRegistry, getSchema(), getSwaggerLocation(), getLabels(),
+                    outputPath, schemaDocumentCache, refAnchorIndex);
         }
 
         @Override
@@ -279,6 +369,24 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
             return extensionRegistry;
         }
 
+        /**
+         * Returns the converted schema documents of this conversion, shared by all components.
+         *
+         * @return the schema document cache
+         */
+        public SchemaDocumentCache getSchemaDocumentCache() {
+            return schemaDocumentCache;
+        }
+
+        /**
+         * Returns the anchors of the {@code $ref}s of the specification.
+         *
+         * @return the ref anchor index
+         */
+        public RefAnchorIndex getRefAnchorIndex() {
+            return refAnchorIndex;
+        }
+
         public Document createDocument() {
             return new DocumentImpl();
         }
@@ -289,6 +397,7 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
         private final URI schemaLocation;
         private OpenSchema2MarkupConfig config;
         private OpenAPI2MarkupExtensionRegistry extensionRegistry;
+        private OpenAPILabels labels;
 
         /**
          * Creates a Builder from a remote URL.
@@ -350,14 +459,22 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
             return this;
         }
 
+        public Builder withLabels(OpenAPILabels labels) {
+            Validate.notNull(labels, "labels must not be null");
+            this.labels = labels;
+            return this;
+        }
+
         public OpenAPI2MarkupConverter build() {
             if (config == null)
                 config = new OpenAPI2MarkupConfigBuilder().build();
 
             if (extensionRegistry == null)
                 extensionRegistry = new OpenAPI2MarkupExtensionRegistryBuilder().build();
-            OpenAPILabels openApiLabels = new OpenAPILabels(config);
-            OpenAPIContext context = new OpenAPIContext(config, extensionRegistry, openAPI, schemaLocation, openApiLabels);
+
+            if (labels == null)
+                labels = new OpenAPILabels(config);
+            OpenAPIContext context = new OpenAPIContext(config, extensionRegistry, openAPI, schemaLocation, labels);
 
             initExtensions(context);
 
@@ -366,14 +483,6 @@ public class OpenAPI2MarkupConverter extends AbstractSchema2MarkupConverter<Open
             return new OpenAPI2MarkupConverter(context);
         }
 
-        private void initExtensions(OpenAPIContext context) {
-            extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getPathsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getSecurityDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-        }
-
         private void applySwaggerExtensions(OpenAPIContext context) {
             extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.apply(context.getSchema()));
         }
@@ -0,0 +1,115 @@
+package com.logate.openapi2asciidoc.openapi2markup;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Anchors of the {@code $ref}s of a specification, built once per conversion. Every component, e.g.
+ * {@code #/components/schemas/Pet}, is mapped to the anchor its links point to, e.g. {@code _components_schemas_pet}.
+ * Other references, e.g. to external files, get their anchor derived on first lookup. The index also knows the names
+ * of the component schemas, looked up by the schema instance.
+ * <p>
+ * The index can be used by several threads at once. Extensions get it through
+ * {@link OpenAPI2MarkupConverter.OpenAPIContext#getRefAnchorIndex()}.
+ */
+public class RefAnchorIndex {
+
+    private static final String COMPONENTS_REF_PREFIX = "#/components/";
+
+    private final ConcurrentMap<String, String> anchors = new ConcurrentHashMap<>();
+    private final Components components;
+    @SuppressWarnings("rawtypes")
+    private volatile Map<Schema, String> schemaNames;
+
+    private RefAnchorIndex(Components components) {
+        this.components = components;
+    }
+
+    /**
+     * Builds the index of all components of a specification.
+     *
+     * @param openAPI the specification, may be null
+     * @return the index
+     */
+    public static RefAnchorIndex of(OpenAPI openAPI) {
+        Components components = null != openAPI ? openAPI.getComponents() : null;
+        RefAnchorIndex index = new RefAnchorIndex(components);
+        if (null != components) {
+            index.addComponents("schemas", components.getSchemas());
+            index.addComponents("responses", components.getResponses());
+            index.addComponents("parameters", components.getParameters());
+            index.addComponents("examples", components.getExamples());
+            index.addComponents("requestBodies", components.getRequestBodies());
+            index.addComponents("headers", components.getHeaders());
+            index.addComponents("securitySchemes", components.getSecuritySchemes());
+            index.addComponents("links", components.getLinks());
+            index.addComponents("callbacks", components.getCallbacks());
+        }
+        return index;
+    }
+
+    /**
+     * Returns the anchor of a reference.
+     *
+     * @param ref the reference, e.g. {@code #/components/schemas/Pet}
+     * @return the anchor, e.g. {@code _components_schemas_pet}
+     */
+    public String getAnchor(String ref) {
+        String anchor = anchors.get(ref);
+        return null != anchor ? anchor : anchors.computeIfAbsent(ref, RefAnchorIndex::toAnchor);
+    }
+
+    /**
+     * Returns the name of a component schema. The names are indexed on the first lookup, after the swagger model
+     * extensions have run.
+     *
+     * @param schema the schema instance
+     * @return the name the schema has in {@code #/components/schemas}, or null if it is not a component schema
+     */
+    @SuppressWarnings("rawtypes")
+    public String getSchemaName(Schema schema) {
+        Map<Schema, String> names = schemaNames;
+        if (null == names) {
+            names = new IdentityHashMap<>();
+            Map<String, Schema> schemas = null != components ? components.getSchemas() : null;
+            if (null != schemas) {
+                for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                    names.putIfAbsent(entry.getValue(), entry.getKey());
+                }
+            }
+            schemaNames = names;
+        }
+        return names.get(schema);
+    }
+
+    /**
+     * Derives the anchor of a reference: lower case, without the first {@code #}, and with {@code _} instead of
+     * {@code /}.
+     *
+     * @param ref the reference
+     * @return the anchor
+     */
+    public static String toAnchor(String ref) {
+        String anchor = ref.toLowerCase();
+        int hash = anchor.indexOf('#');
+        if (hash >= 0) {
+            anchor = anchor.substring(0, hash) + anchor.substring(hash + 1);
+        }
+        return anchor.replace('/', '_');
+    }
+
+    private void addComponents(String type, Map<String, ?> components) {
+        if (null != components) {
+            components.keySet().forEach(name -> {
+                String ref = COMPONENTS_REF_PREFIX + type + "/" + name;
+                anchors.put(ref, toAnchor(ref));
+            });
+        }
+    }
+}
@@ -31,7 +31,9 @@ public class OpenAPILabels extends Labels {
     public static final String LABEL_OPTIONAL = "label_optional";
     public static final String LABEL_PARAMETERS = "label_parameters";
     public static final String LABEL_READ_ONLY = "label_read_only";
+    public static final String LABEL_RECURSIVE_SCHEMA = "label_recursive_schema";
     public static final String LABEL_REQUIRED = "label_required";
+    public static final String LABEL_SCHEMA_DEPTH_LIMIT = "label_schema_depth_limit";
     public static final String LABEL_SERVER = "label_server";
     public static final String LABEL_TERMS_OF_SERVICE = "label_terms_of_service";
     public static final String LABEL_TITLE = "label_title";
@@ -18,24 +18,37 @@ package com.logate.openapi2asciidoc.openapi2markup.extension;
 
 import com.logate.openapi2asciidoc.openapi2markup.OpenAPI2MarkupConverter;
 import com.logate.openapi2asciidoc.openapi2markup.OpenSchema2MarkupConfig;
+import com.logate.openapi2asciidoc.openapi2markup.RefAnchorIndex;
 import com.logate.openapi2asciidoc.swagger2markup.core.Labels;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.vavr.Function2;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A part of a document, built from a specification element into a parent node.
+ * <p>
+ * Concurrency contract: a component is created once per conversion and may then be applied by several threads at
+ * once, e.g. when documents, operations or schemas are built in parallel. Subclasses must therefore not keep any state
+ * of a single application in fields. Everything a component needs besides its parameters is taken from the immutable
+ * {@link OpenAPI2MarkupConverter.OpenAPIContext} when it is created; state shared across applications, such as the
+ * schema document cache, must be safe for concurrent use. Nodes are only ever appended to the parent passed to
+ * {@link #apply(Object, Object)}, which belongs to the calling thread.
+ */
 public abstract class MarkupComponent<D, T, R> implements Function2<D, T, R> {
 
-    protected Logger logger = LoggerFactory.getLogger(getClass());
-    protected OpenAPI2MarkupConverter.Context<OpenAPI> context;
-    protected Labels labels;
-    protected OpenSchema2MarkupConfig config;
-    protected OpenAPI2MarkupExtensionRegistry extensionRegistry;
+    protected final Logger logger = LoggerFactory.getLogger(getClass());
+    protected final OpenAPI2MarkupConverter.Context<OpenAPI> context;
+    protected final Labels labels;
+    protected final OpenSchema2MarkupConfig config;
+    protected final OpenAPI2MarkupExtensionRegistry extensionRegistry;
+    protected final RefAnchorIndex refAnchorIndex;
 
     public MarkupComponent(OpenAPI2MarkupConverter.OpenAPIContext context) {
         this.context = context;
         this.config = context.getConfig();
         this.extensionRegistry = context.getExtensionRegistry();
         this.labels = context.getLabels();
+        this.refAnchorIndex = context.getRefAnchorIndex();
     }
 }
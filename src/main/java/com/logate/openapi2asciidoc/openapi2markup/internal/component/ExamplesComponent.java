@@ -71,8 +71,8 @@ public class ExamplesComponent extends MarkupComponent<StructuralNode, ExamplesC
 
             ParagraphBlockImpl paragraphBlock = new ParagraphBlockImpl(tagDesc);
             String source = "";
-            generateRefLink(source, example.getExternalValue(), labels.getLabel(LABEL_EXTERNAL_VALUE));
-            generateRefLink(source, example.get$ref(), "");
+            source = generateRefLink(source, example.getExternalValue(), labels.getLabel(LABEL_EXTERNAL_VALUE));
+            source = generateRefLink(source, example.get$ref(), "");
             if(StringUtils.isNotBlank(source)){
                 paragraphBlock.setSource(source);
                 tagDesc.append(paragraphBlock);
@@ -92,7 +92,7 @@ public class ExamplesComponent extends MarkupComponent<StructuralNode, ExamplesC
             if (StringUtils.isBlank(alt)) {
                 alt = ref.substring(ref.lastIndexOf('/') + 1);
             }
-            String anchor = ref.replaceFirst("#", "").replaceAll("/", "_");
+            String anchor = refAnchorIndex.getAnchor(ref);
             source += "<<" + anchor + "," + alt + ">>" + LINE_SEPARATOR;
         }
         return source;
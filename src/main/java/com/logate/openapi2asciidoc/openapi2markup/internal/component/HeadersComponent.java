@@ -62,7 +62,7 @@ public class HeadersComponent extends MarkupComponent<StructuralNode, HeadersCom
                 responseHeadersTable.addRow(
                         generateInnerDoc(responseHeadersTable, name),
                         generateInnerDoc(responseHeadersTable, Optional.ofNullable(header.getDescription()).orElse("")),
-                        generateInnerDoc(responseHeadersTable, getSchemaTypeAsString(header.getSchema()))
+                        generateInnerDoc(responseHeadersTable, getSchemaTypeAsString(header.getSchema(), refAnchorIndex))
                 ));
         node.append(responseHeadersTable);
         return node;
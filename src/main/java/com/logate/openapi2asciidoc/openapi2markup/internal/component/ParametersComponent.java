@@ -80,7 +80,7 @@ public class ParametersComponent extends MarkupComponent<StructuralNode, Paramet
                         generateInnerDoc(pathParametersTable, boldUnconstrained(parameter.getIn()), alt),
                         getParameterNameDocument(pathParametersTable, parameter),
                         generateInnerDoc(pathParametersTable, Optional.ofNullable(parameter.getDescription()).orElse("")),
-                        generateInnerDoc(pathParametersTable, getSchemaTypeAsString(parameter.getSchema()))
+                        generateInnerDoc(pathParametersTable, getSchemaTypeAsString(parameter.getSchema(), refAnchorIndex))
                 ));
         parent.append(pathParametersTable);
 
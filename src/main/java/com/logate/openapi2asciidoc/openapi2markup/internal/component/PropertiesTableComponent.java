@@ -20,12 +20,14 @@ import com.logate.openapi2asciidoc.openapi2markup.extension.MarkupComponent;
 import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.TableImpl;
 import com.logate.openapi2asciidoc.swagger2markup.core.Schema2MarkupProperties;
 import io.swagger.v3.oas.models.media.Schema;
+import org.asciidoctor.ast.Document;
 import org.asciidoctor.ast.StructuralNode;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 import static com.logate.openapi2asciidoc.openapi2markup.config.OpenAPILabels.*;
 import static com.logate.openapi2asciidoc.openapi2markup.internal.helper.OpenApiHelpers.*;
@@ -33,24 +35,24 @@ import static com.logate.openapi2asciidoc.swagger2markup.adoc.converter.internal
 
 public class PropertiesTableComponent extends MarkupComponent<StructuralNode, PropertiesTableComponent.Parameters, StructuralNode> {
 
-    private final SchemaComponent schemaComponent;
-
     PropertiesTableComponent(OpenAPI2MarkupConverter.OpenAPIContext context) {
         super(context);
-        this.schemaComponent = new SchemaComponent(context);
     }
 
-    public static Parameters parameters(@SuppressWarnings("rawtypes") Map<String, Schema> properties, List<String> schemaRequired) {
-        return new Parameters(properties, schemaRequired);
+    public static Parameters parameters(@SuppressWarnings("rawtypes") Map<String, Schema> properties, List<String> schemaRequired,
+                                        @SuppressWarnings("rawtypes") BiFunction<StructuralNode, Schema, Document> schemaDocumentFactory) {
+        return new Parameters(properties, schemaRequired, schemaDocumentFactory);
     }
 
-    public StructuralNode apply(StructuralNode parent, @SuppressWarnings("rawtypes") Map<String, Schema> properties, List<String> schemaRequired) {
-        return apply(parent, parameters(properties, schemaRequired));
+    public StructuralNode apply(StructuralNode parent, @SuppressWarnings("rawtypes") Map<String, Schema> properties, List<String> schemaRequired,
+                                @SuppressWarnings("rawtypes") BiFunction<StructuralNode, Schema, Document> schemaDocumentFactory) {
+        return apply(parent, parameters(properties, schemaRequired, schemaDocumentFactory));
     }
 
     public StructuralNode apply(StructuralNode parent, Parameters params) {
         @SuppressWarnings("rawtypes") Map<String, Schema> properties = params.properties;
         List<String> schemaRequired = params.schemaRequired;
+        @SuppressWarnings("rawtypes") BiFunction<StructuralNode, Schema, Document> schemaDocumentFactory = params.schemaDocumentFactory;
 
         if (null == properties || properties.isEmpty()) return parent;
 
@@ -69,8 +71,8 @@ public class PropertiesTableComponent extends MarkupComponent<StructuralNode, Pr
         properties.forEach((name, schema) -> propertiesTable.addRow(
                     generateInnerDoc(propertiesTable, name + LINE_SEPARATOR + requiredIndicator(finalSchemaRequired.contains(name),
                             labels.getLabel(LABEL_REQUIRED), labels.getLabel(LABEL_OPTIONAL))),
-                schemaComponent.apply(propertiesTable, schema),
-                generateInnerDoc(propertiesTable, getSchemaTypeAsString(schema))
+                schemaDocumentFactory.apply(propertiesTable, schema),
+                generateInnerDoc(propertiesTable, getSchemaTypeAsString(schema, refAnchorIndex))
             ));
         parent.append(propertiesTable);
         return parent;
@@ -80,11 +82,17 @@ public class PropertiesTableComponent extends MarkupComponent<StructuralNode, Pr
     public static class Parameters {
         private final Map<String, Schema> properties;
         private final List<String> schemaRequired;
+        private final BiFunction<StructuralNode, Schema, Document> schemaDocumentFactory;
 
-        public Parameters(Map<String, Schema> properties, List<String> schemaRequired) {
+        /**
+         * @param schemaDocumentFactory creates the document of the schema column, below the properties table
+         */
+        public Parameters(Map<String, Schema> properties, List<String> schemaRequired,
+                          BiFunction<StructuralNode, Schema, Document> schemaDocumentFactory) {
 
             this.properties = properties;
             this.schemaRequired = schemaRequired;
+            this.schemaDocumentFactory = schemaDocumentFactory;
         }
     }
 }
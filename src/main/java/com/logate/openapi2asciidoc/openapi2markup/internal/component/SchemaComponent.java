@@ -18,16 +18,24 @@ package com.logate.openapi2asciidoc.openapi2markup.internal.component;
 import com.logate.openapi2asciidoc.openapi2markup.OpenAPI2MarkupConverter;
 import com.logate.openapi2asciidoc.openapi2markup.extension.MarkupComponent;
 import com.logate.openapi2asciidoc.openapi2markup.internal.helper.OpenApiHelpers;
+import com.logate.openapi2asciidoc.swagger2markup.adoc.AsciidocConverter;
 import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.DocumentImpl;
 import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.ParagraphBlockImpl;
+import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.RenderedBlockImpl;
 import com.logate.openapi2asciidoc.swagger2markup.core.Schema2MarkupProperties;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
+import org.asciidoctor.ast.ContentNode;
 import org.asciidoctor.ast.Document;
 import org.asciidoctor.ast.StructuralNode;
+import org.asciidoctor.ast.Table;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,10 +46,12 @@ import static com.logate.openapi2asciidoc.swagger2markup.adoc.converter.internal
 public class SchemaComponent extends MarkupComponent<StructuralNode, SchemaComponent.Parameters, StructuralNode> {
 
     private final OpenAPI2MarkupConverter.OpenAPIContext context;
+    private final PropertiesTableComponent propertiesTableComponent;
 
     public SchemaComponent(OpenAPI2MarkupConverter.OpenAPIContext context) {
         super(context);
         this.context = context;
+        this.propertiesTableComponent = new PropertiesTableComponent(context);
     }
 
     public static Parameters parameters(@SuppressWarnings("rawtypes") Schema schema) {
@@ -52,13 +62,109 @@ public class SchemaComponent extends MarkupComponent<StructuralNode, SchemaCompo
         return apply(parent, parameters(schema));
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    /**
+     * Builds the schema document with an explicit work stack instead of recursing into nested schemas, so that deep
+     * schemas can not overflow the call stack. A schema which is nested in itself is rendered as a reference where it
+     * shows up again, as is a schema nested deeper than the configured {@code maxSchemaDepth}.
+     */
+    @SuppressWarnings("rawtypes")
     @Override
     public Document apply(StructuralNode parent, Parameters parameters) {
         Document schemaDocument = new DocumentImpl(parent);
         Schema schema = parameters.schema;
         if (null == schema) return schemaDocument;
 
+        Deque<Visit> visits = new ArrayDeque<>();
+        visits.push(new Visit(null, parent, schemaDocument, schema, isInsideTable(parent), 0));
+        while (!visits.isEmpty()) {
+            Visit visit = visits.pop();
+            if (null == visit.blocks) {
+                expand(visit, visits);
+            } else {
+                finish(visit);
+            }
+        }
+        return schemaDocument;
+    }
+
+    /**
+     * Appends the blocks of a schema document, taking them from the cache if possible. Otherwise the blocks are built,
+     * the visit is pushed again to be finished, and the nested schemas of the properties table are pushed on top of it.
+     */
+    @SuppressWarnings("rawtypes")
+    private void expand(Visit visit, Deque<Visit> visits) {
+        if (visit.isNestedInItself()) {
+            appendReference(visit.document, visit.schema, LABEL_RECURSIVE_SCHEMA);
+            visit.markCutShort();
+            visit.reportHeight(0);
+            return;
+        }
+        int maxSchemaDepth = config.getMaxSchemaDepth();
+        if (visit.depth > maxSchemaDepth) {
+            appendReference(visit.document, visit.schema, LABEL_SCHEMA_DEPTH_LIMIT);
+            visit.markCutShort();
+            visit.reportHeight(0);
+            return;
+        }
+        // a cached document is only reused if it would not have been cut short at this depth
+        SchemaDocumentCache.SchemaDocument cached = context.getSchemaDocumentCache()
+                .get(visit.schema, visit.insideTable, maxSchemaDepth - visit.depth);
+        if (null != cached) {
+            appendRenderedBlocks(visit.document, cached.getBlocks());
+            visit.reportHeight(cached.getHeight());
+            return;
+        }
+        visit.blocks = new DocumentImpl(visit.parent);
+        visits.push(visit);
+        appendBlocks(visit.blocks, visit.schema, (table, nestedSchema) -> {
+            Document nestedDocument = new DocumentImpl(table);
+            if (null != nestedSchema) {
+                visits.push(new Visit(visit, table, nestedDocument, nestedSchema, true, visit.depth + 1));
+            }
+            return nestedDocument;
+        });
+    }
+
+    /**
+     * Converts the blocks of a schema document once all nested schemas are done, and caches them unless they were cut
+     * short.
+     */
+    private void finish(Visit visit) {
+        List<String> renderedBlocks = visit.blocks.getBlocks().stream()
+                .map(block -> AsciidocConverter.INSTANCE.convertBlock(block, visit.insideTable))
+                .collect(Collectors.toList());
+        if (!visit.cutShort) {
+            renderedBlocks = context.getSchemaDocumentCache()
+                    .put(visit.schema, visit.insideTable, renderedBlocks, visit.height).getBlocks();
+        }
+        appendRenderedBlocks(visit.document, renderedBlocks);
+        visit.reportHeight(visit.height);
+    }
+
+    private static void appendRenderedBlocks(Document schemaDocument, List<String> renderedBlocks) {
+        renderedBlocks.forEach(block -> schemaDocument.append(new RenderedBlockImpl(schemaDocument, block)));
+    }
+
+    /**
+     * Appends a paragraph standing in for a schema which is not expanded, linking to its component if it is one.
+     */
+    @SuppressWarnings("rawtypes")
+    private void appendReference(Document schemaDocument, Schema schema, String label) {
+        String source = OpenApiHelpers.italicUnconstrained(labels.getLabel(label));
+        String name = refAnchorIndex.getSchemaName(schema);
+        if (null != name) {
+            source += ": <<" + refAnchorIndex.getAnchor("#/components/schemas/" + name) + "," + name + ">>";
+        } else if (StringUtils.isNotBlank(schema.getTitle())) {
+            source += ": " + schema.getTitle();
+        }
+        ParagraphBlockImpl paragraphBlock = new ParagraphBlockImpl(schemaDocument);
+        paragraphBlock.setSource(source);
+        schemaDocument.append(paragraphBlock);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void appendBlocks(Document schemaDocument, Schema schema,
+                              BiFunction<StructuralNode, Schema, Document> schemaDocumentFactory) {
         OpenApiHelpers.appendDescription(schemaDocument, schema.getDescription());
 
         Map<String, Boolean> schemasBooleanProperties = new HashMap<String, Boolean>() {{
@@ -100,11 +206,70 @@ public class SchemaComponent extends MarkupComponent<StructuralNode, SchemaCompo
 
         Map<String, Schema> properties = schema.getProperties();
         if (null != properties && !properties.isEmpty()) {
-            PropertiesTableComponent propertiesTableComponent = new PropertiesTableComponent(context);
-            propertiesTableComponent.apply(schemaDocument, properties, schema.getRequired());
+            propertiesTableComponent.apply(schemaDocument, properties, schema.getRequired(), schemaDocumentFactory);
+        }
+    }
+
+    private static boolean isInsideTable(StructuralNode parent) {
+        for (ContentNode node = parent; null != node; node = node.getParent()) {
+            if (node instanceof Table) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        return schemaDocument;
+    /**
+     * A schema document to build, with the visits of the schemas it is nested in.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class Visit {
+        private final Visit outer;
+        private final StructuralNode parent;
+        private final Document document;
+        private final Schema schema;
+        private final boolean insideTable;
+        private final int depth;
+        private Document blocks;
+        private boolean cutShort;
+        // levels of nested schemas expanded below this one, known once all of them are done
+        private int height;
+
+        private Visit(Visit outer, StructuralNode parent, Document document, Schema schema, boolean insideTable, int depth) {
+            this.outer = outer;
+            this.parent = parent;
+            this.document = document;
+            this.schema = schema;
+            this.insideTable = insideTable;
+            this.depth = depth;
+        }
+
+        private boolean isNestedInItself() {
+            for (Visit visit = outer; null != visit; visit = visit.outer) {
+                if (visit.schema == schema) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Reports the height of the document of this schema to the schema it is nested in.
+         */
+        private void reportHeight(int height) {
+            if (null != outer) {
+                outer.height = Math.max(outer.height, height + 1);
+            }
+        }
+
+        /**
+         * Marks the documents of all outer schemas as depending on where they appear.
+         */
+        private void markCutShort() {
+            for (Visit visit = outer; null != visit && !visit.cutShort; visit = visit.outer) {
+                visit.cutShort = true;
+            }
+        }
     }
 
     @SuppressWarnings("rawtypes")
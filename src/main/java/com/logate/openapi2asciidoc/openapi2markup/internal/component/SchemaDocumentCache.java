@@ -0,0 +1,156 @@
+package com.logate.openapi2asciidoc.openapi2markup.internal.component;
+
+import io.swagger.v3.oas.models.media.Schema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Converted blocks of the schema documents built during a single conversion, so that a schema which is used in many
+ * places is only built and converted once. Schemas are keyed by their {@code $ref} if they have one, by identity
+ * otherwise. The same schema converts differently inside and outside of a table, so both are cached separately.
+ * <p>
+ * The cache can be used by several threads at once. Two threads missing the same schema at the same time both build
+ * it, and the first result is kept. Schema documents which were cut short because of a cycle or the depth limit depend
+ * on where they appear and must not be stored. A stored document is only reused where it fits below the depth limit
+ * as a whole, so the output does not depend on where the schema was built first.
+ */
+public class SchemaDocumentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaDocumentCache.class);
+
+    private final ConcurrentMap<Key, SchemaDocument> schemaDocuments = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Returns a converted schema document.
+     *
+     * @param schema      the schema
+     * @param insideTable whether the schema document is part of a table
+     * @param maxHeight   how many levels of nested schemas may still be expanded below the schema
+     * @return the schema document, or null if the schema has not been converted yet or nests deeper than
+     * {@code maxHeight}
+     */
+    SchemaDocument get(@SuppressWarnings("rawtypes") Schema schema, boolean insideTable, int maxHeight) {
+        Key key = key(schema, insideTable);
+        SchemaDocument schemaDocument = schemaDocuments.get(key);
+        if (null != schemaDocument && schemaDocument.height > maxHeight) {
+            schemaDocument = null;
+        }
+        (null != schemaDocument ? hits : misses).incrementAndGet();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Schema document cache {} for {} ({} hits, {} misses)",
+                    null != schemaDocument ? "hit" : "miss", key, hits.get(), misses.get());
+        }
+        return schemaDocument;
+    }
+
+    /**
+     * Stores a converted schema document, unless another thread has been faster.
+     *
+     * @param schema      the schema
+     * @param insideTable whether the schema document is part of a table
+     * @param blocks      the converted blocks
+     * @param height      the number of levels of nested schemas expanded below the schema
+     * @return the schema document which is cached now
+     */
+    SchemaDocument put(@SuppressWarnings("rawtypes") Schema schema, boolean insideTable, List<String> blocks, int height) {
+        SchemaDocument schemaDocument = new SchemaDocument(blocks, height);
+        SchemaDocument previous = schemaDocuments.putIfAbsent(key(schema, insideTable), schemaDocument);
+        return null != previous ? previous : schemaDocument;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private static Key key(@SuppressWarnings("rawtypes") Schema schema, boolean insideTable) {
+        return new Key(null != schema.get$ref() ? schema.get$ref() : new Identity(schema), insideTable);
+    }
+
+    /**
+     * The converted blocks of a schema document, and how deep the schemas nested in it go.
+     */
+    static final class SchemaDocument {
+        private final List<String> blocks;
+        private final int height;
+
+        private SchemaDocument(List<String> blocks, int height) {
+            this.blocks = blocks;
+            this.height = height;
+        }
+
+        List<String> getBlocks() {
+            return blocks;
+        }
+
+        int getHeight() {
+            return height;
+        }
+    }
+
+    private static final class Key {
+        private final Object schema;
+        private final boolean insideTable;
+
+        private Key(Object schema, boolean insideTable) {
+            this.schema = schema;
+            this.insideTable = insideTable;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return insideTable == key.insideTable && schema.equals(key.schema);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schema, insideTable);
+        }
+
+        @Override
+        public String toString() {
+            return insideTable ? schema + " in table" : schema.toString();
+        }
+    }
+
+    /**
+     * Compares schemas by identity, since {@link Schema#equals(Object)} compares the whole schema tree.
+     */
+    private static final class Identity {
+        @SuppressWarnings("rawtypes")
+        private final Schema schema;
+
+        private Identity(@SuppressWarnings("rawtypes") Schema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity && schema == ((Identity) o).schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema);
+        }
+
+        @Override
+        public String toString() {
+            return "schema@" + Integer.toHexString(hashCode());
+        }
+    }
+}
@@ -15,7 +15,12 @@ import org.asciidoctor.ast.Document;
 import org.asciidoctor.ast.Section;
 import org.asciidoctor.ast.StructuralNode;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.logate.openapi2asciidoc.openapi2markup.config.OpenAPILabels.*;
 
@@ -97,16 +102,26 @@ public class ComponentsDocument extends MarkupComponent<Document, ComponentsDocu
         String schemasSectionId = componentSectionId + "_schemas";
         schemasSection.setTitle(labels.getLabel(SECTION_TITLE_SCHEMAS));
         schemasSection.setId(schemasSectionId);
-        schemas.forEach((name, schema) -> {
-            String schemaDocumentId = schemasSectionId + "_" + name;
-            Document schemaDocument = schemaComponent.apply(schemasSection, schema);
-            schemaDocument.setTitle(name);
-            schemaDocument.setId(schemaDocumentId);
-            schemasSection.append(schemaDocument);
-        });
+        // schema documents are independent subtrees, a schema nested in several of them is only ever read
+        List<Supplier<Document>> schemaDocuments = new ArrayList<>();
+        schemas.forEach((name, schema) ->
+                schemaDocuments.add(() -> createSchemaDocument(schemasSection, schemasSectionId, name, schema)));
+        Stream<Supplier<Document>> schemaDocumentStream = config.isParallelSchemasEnabled()
+                ? schemaDocuments.parallelStream() : schemaDocuments.stream();
+        schemaDocumentStream.map(Supplier::get)
+                .collect(Collectors.toList())
+                .forEach(schemasSection::append);
         componentsSection.append(schemasSection);
     }
 
+    private Document createSchemaDocument(Section schemasSection, String schemasSectionId, String name,
+                                          @SuppressWarnings("rawtypes") Schema schema) {
+        Document schemaDocument = schemaComponent.apply(schemasSection, schema);
+        schemaDocument.setTitle(name);
+        schemaDocument.setId(schemasSectionId + "_" + name);
+        return schemaDocument;
+    }
+
     private <T> void appendSubSection(Section componentsSection, String componentSectionId,
                                       MarkupComponent<StructuralNode, T, StructuralNode> markupComponent,
                                       String sectionLabel, T parameters) {
@@ -10,6 +10,8 @@ import com.logate.openapi2asciidoc.openapi2markup.internal.helper.OpenApiHelpers
 import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.SectionImpl;
 import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.TableImpl;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariables;
@@ -19,6 +21,9 @@ import org.asciidoctor.ast.Section;
 import org.asciidoctor.ast.StructuralNode;
 
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.logate.openapi2asciidoc.openapi2markup.config.OpenAPILabels.*;
 
@@ -49,24 +54,34 @@ public class PathsDocument extends MarkupComponent<Document, PathsDocument.Param
         SectionImpl allPathsSection = new SectionImpl(document);
         allPathsSection.setTitle(labels.getLabel(SECTION_TITLE_PATHS));
 
+        // operations are independent subtrees, so they can be built in any order and attached in the original one
+        List<Supplier<Section>> operationSections = new ArrayList<>();
         apiPaths.forEach((name, pathItem) ->
-                pathItem.readOperationsMap().forEach(((httpMethod, operation) -> {
-                    SectionImpl operationSection = new SectionImpl(allPathsSection);
-                    String summary = Optional.ofNullable(operation.getSummary()).orElse("");
-                    operationSection.setTitle((OpenApiHelpers.italicUnconstrained(httpMethod.name().toUpperCase()) + " " + OpenApiHelpers.monospaced(name) + " " + summary).trim());
-                    OpenApiHelpers.appendDescription(operationSection, operation.getDescription());
-                    externalDocumentationComponent.apply(operationSection, operation.getExternalDocs());
-                    parametersComponent.apply(operationSection, operation.getParameters());
-                    responseComponent.apply(operationSection, operation.getResponses());
-                    appendServersSection(operationSection, operation.getServers());
-                    securityRequirementTableComponent.apply(operationSection, operation.getSecurity(), false);
-                    allPathsSection.append(operationSection);
-                })));
+                pathItem.readOperationsMap().forEach(((httpMethod, operation) ->
+                        operationSections.add(() -> createOperationSection(allPathsSection, name, httpMethod, operation)))));
+        Stream<Supplier<Section>> operationSectionStream = config.isParallelOperationsEnabled()
+                ? operationSections.parallelStream() : operationSections.stream();
+        operationSectionStream.map(Supplier::get)
+                .collect(Collectors.toList())
+                .forEach(allPathsSection::append);
 
         document.append(allPathsSection);
         return document;
     }
 
+    private Section createOperationSection(Section allPathsSection, String name, PathItem.HttpMethod httpMethod, Operation operation) {
+        SectionImpl operationSection = new SectionImpl(allPathsSection);
+        String summary = Optional.ofNullable(operation.getSummary()).orElse("");
+        operationSection.setTitle((OpenApiHelpers.italicUnconstrained(httpMethod.name().toUpperCase()) + " " + OpenApiHelpers.monospaced(name) + " " + summary).trim());
+        OpenApiHelpers.appendDescription(operationSection, operation.getDescription());
+        externalDocumentationComponent.apply(operationSection, operation.getExternalDocs());
+        parametersComponent.apply(operationSection, operation.getParameters());
+        responseComponent.apply(operationSection, operation.getResponses());
+        appendServersSection(operationSection, operation.getServers());
+        securityRequirementTableComponent.apply(operationSection, operation.getSecurity(), false);
+        return operationSection;
+    }
+
     private void appendServersSection(StructuralNode node, List<Server> servers) {
         if (null == servers || servers.isEmpty()) return;
 
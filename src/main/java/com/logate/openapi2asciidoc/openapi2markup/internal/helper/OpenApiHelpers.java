@@ -1,6 +1,7 @@
 package com.logate.openapi2asciidoc.openapi2markup.internal.helper;
 
-import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.DocumentImpl;
+import com.logate.openapi2asciidoc.openapi2markup.RefAnchorIndex;
+import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.InlineDocumentImpl;
 import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.ParagraphBlockImpl;
 import com.logate.openapi2asciidoc.swagger2markup.core.Schema2MarkupProperties;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -30,14 +31,10 @@ public class OpenApiHelpers {
     }
 
     public static Document generateInnerDoc(Table table, String documentContent, String id) {
-        Document innerDoc = new DocumentImpl(table);
+        Document innerDoc = new InlineDocumentImpl(table, documentContent);
         if (StringUtils.isNotBlank(id)) {
             innerDoc.setId(id);
         }
-
-        Block paragraph = new ParagraphBlockImpl(innerDoc);
-        paragraph.setSource(documentContent);
-        innerDoc.append(paragraph);
         return innerDoc;
     }
 
@@ -65,12 +62,12 @@ public class OpenApiHelpers {
         return "`" + str + "`";
     }
 
-    public static String getSchemaTypeAsString(Schema schema) {
+    public static String getSchemaTypeAsString(Schema schema, RefAnchorIndex refAnchorIndex) {
         StringBuilder stringBuilder = new StringBuilder();
         if (schema instanceof ArraySchema) {
             stringBuilder.append("< ");
             Schema<?> items = ((ArraySchema) schema).getItems();
-            stringBuilder.append(getSchemaType(items));
+            stringBuilder.append(getSchemaType(items, refAnchorIndex));
             stringBuilder.append(" > ");
             stringBuilder.append(schema.getType());
         } else {
@@ -84,7 +81,7 @@ public class OpenApiHelpers {
                 stringBuilder.deleteCharAt(stringBuilder.length() - 1);
                 stringBuilder.append(')');
             } else {
-                stringBuilder.append(getSchemaType(schema));
+                stringBuilder.append(getSchemaType(schema, refAnchorIndex));
                 String format = schema.getFormat();
                 if (format != null) {
                     stringBuilder.append(' ');
@@ -97,18 +94,18 @@ public class OpenApiHelpers {
         return stringBuilder.toString();
     }
 
-    private static String getSchemaType(Schema<?> schema) {
+    private static String getSchemaType(Schema<?> schema, RefAnchorIndex refAnchorIndex) {
         String type = schema.getType();
         if (StringUtils.isNotEmpty(type)) {
             return type;
         } else {
-            return generateRefLink(schema.get$ref());
+            return generateRefLink(schema.get$ref(), refAnchorIndex);
         }
     }
 
-    private static String generateRefLink(String ref) {
+    private static String generateRefLink(String ref, RefAnchorIndex refAnchorIndex) {
         if (StringUtils.isNotBlank(ref)) {
-            String anchor = ref.toLowerCase().replaceFirst("#", "").replaceAll("/", "_");
+            String anchor = refAnchorIndex.getAnchor(ref);
             return "<<" + anchor + ">>" + LINE_SEPARATOR;
         }
         return "";
@@ -24,6 +24,7 @@ import com.logate.openapi2asciidoc.swagger2markup.internal.document.DefinitionsD
 import com.logate.openapi2asciidoc.swagger2markup.internal.document.OverviewDocument;
 import com.logate.openapi2asciidoc.swagger2markup.internal.document.PathsDocument;
 import com.logate.openapi2asciidoc.swagger2markup.internal.document.SecurityDocument;
+import com.logate.openapi2asciidoc.swagger2markup.internal.utils.ExampleCache;
 import com.logate.openapi2asciidoc.swagger2markup.markup.builder.LineSeparator;
 import com.logate.openapi2asciidoc.swagger2markup.markup.builder.MarkupDocBuilder;
 import com.logate.openapi2asciidoc.swagger2markup.markup.builder.MarkupDocBuilders;
@@ -43,9 +44,11 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
 
 
 /**
@@ -180,42 +183,52 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
     public void toFolder(Path outputDirectory) {
         Validate.notNull(outputDirectory, "outputDirectory must not be null");
 
-        swaggerContext.setOutputPath(outputDirectory);
-
-        applyOverviewDocument()
-                .writeToFile(outputDirectory.resolve(swaggerContext.config.getOverviewDocument()), StandardCharsets.UTF_8);
-        applyPathsDocument()
-                .writeToFile(outputDirectory.resolve(swaggerContext.config.getPathsDocument()), StandardCharsets.UTF_8);
-        applyDefinitionsDocument()
-                .writeToFile(outputDirectory.resolve(swaggerContext.config.getDefinitionsDocument()), StandardCharsets.UTF_8);
-        applySecurityDocument()
-                .writeToFile(outputDirectory.resolve(swaggerContext.config.getSecurityDocument()), StandardCharsets.UTF_8);
+        // the documents resolve cross references against the output path, so they are built for this run only
+        SwaggerContext runContext = swaggerContext.withOutputPath(outputDirectory);
+        // extensions see the output path of this run, as the documents do
+        initExtensions(runContext);
+        Swagger2MarkupConverter folderConverter = new Swagger2MarkupConverter(runContext);
+        writeToFile(folderConverter::applyOverviewDocument, outputDirectory.resolve(swaggerContext.config.getOverviewDocument()));
+        writeToFile(folderConverter::applyPathsDocument, outputDirectory.resolve(swaggerContext.config.getPathsDocument()));
+        writeToFile(folderConverter::applyDefinitionsDocument, outputDirectory.resolve(swaggerContext.config.getDefinitionsDocument()));
+        writeToFile(folderConverter::applySecurityDocument, outputDirectory.resolve(swaggerContext.config.getSecurityDocument()));
     }
 
-    private MarkupDocBuilder applyOverviewDocument() {
+    private MarkupDocBuilder applyOverviewDocument(MarkupDocBuilder markupDocBuilder) {
         return overviewDocument.apply(
-                swaggerContext.createMarkupDocBuilder(),
+                markupDocBuilder,
                 OverviewDocument.parameters(swaggerContext.getSchema()));
     }
 
-    private MarkupDocBuilder applyPathsDocument() {
+    private MarkupDocBuilder applyPathsDocument(MarkupDocBuilder markupDocBuilder) {
         return pathsDocument.apply(
-                swaggerContext.createMarkupDocBuilder(),
+                markupDocBuilder,
                 PathsDocument.parameters(swaggerContext.getSchema().getPaths()));
     }
 
-    private MarkupDocBuilder applyDefinitionsDocument() {
+    private MarkupDocBuilder applyDefinitionsDocument(MarkupDocBuilder markupDocBuilder) {
         return definitionsDocument.apply(
-                swaggerContext.createMarkupDocBuilder(),
+                markupDocBuilder,
                 DefinitionsDocument.parameters(swaggerContext.getSchema().getDefinitions()));
     }
 
-    private MarkupDocBuilder applySecurityDocument() {
+    private MarkupDocBuilder applySecurityDocument(MarkupDocBuilder markupDocBuilder) {
         return securityDocument.apply(
-                swaggerContext.createMarkupDocBuilder(),
+                markupDocBuilder,
                 SecurityDocument.parameters(swaggerContext.getSchema().getSecurityDefinitions()));
     }
 
+    /**
+     * Streams a document to a file, so that a large document is not kept in memory as a whole.
+     */
+    private void writeToFile(Consumer<MarkupDocBuilder> document, Path file, OpenOption... options) {
+        swaggerContext.createMarkupDocBuilder().streamToFile(file, StandardCharsets.UTF_8, document, options);
+    }
+
+    private void writeToFileWithoutExtension(Consumer<MarkupDocBuilder> document, Path file, OpenOption... options) {
+        swaggerContext.createMarkupDocBuilder().streamToFileWithoutExtension(file, StandardCharsets.UTF_8, document, options);
+    }
+
     /**
      * Converts the Swagger specification into the {@code outputPath} which can be either a directory (e.g /tmp) or a file without extension (e.g /tmp/swagger).
      * Internally the method invokes either {@code toFolder} or {@code toFile}. If the {@code outputPath} is a directory, the directory must exist.
@@ -241,10 +254,10 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
     public void toFile(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        applyOverviewDocument().writeToFile(outputFile, StandardCharsets.UTF_8);
-        applyPathsDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applyDefinitionsDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applySecurityDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        writeToFile(this::applyOverviewDocument, outputFile);
+        writeToFile(this::applyPathsDocument, outputFile, StandardOpenOption.APPEND);
+        writeToFile(this::applyDefinitionsDocument, outputFile, StandardOpenOption.APPEND);
+        writeToFile(this::applySecurityDocument, outputFile, StandardOpenOption.APPEND);
     }
 
     /**
@@ -255,10 +268,10 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
     public void toFileWithoutExtension(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        applyOverviewDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8);
-        applyPathsDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applyDefinitionsDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applySecurityDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        writeToFileWithoutExtension(this::applyOverviewDocument, outputFile);
+        writeToFileWithoutExtension(this::applyPathsDocument, outputFile, StandardOpenOption.APPEND);
+        writeToFileWithoutExtension(this::applyDefinitionsDocument, outputFile, StandardOpenOption.APPEND);
+        writeToFileWithoutExtension(this::applySecurityDocument, outputFile, StandardOpenOption.APPEND);
     }
 
     /**
@@ -269,10 +282,10 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append(applyOverviewDocument().toString());
-        sb.append(applyPathsDocument().toString());
-        sb.append(applyDefinitionsDocument().toString());
-        sb.append(applySecurityDocument().toString());
+        sb.append(applyOverviewDocument(swaggerContext.createMarkupDocBuilder()).toString());
+        sb.append(applyPathsDocument(swaggerContext.createMarkupDocBuilder()).toString());
+        sb.append(applyDefinitionsDocument(swaggerContext.createMarkupDocBuilder()).toString());
+        sb.append(applySecurityDocument(swaggerContext.createMarkupDocBuilder()).toString());
         return sb.toString();
     }
 
@@ -358,29 +371,59 @@ public class Swagger2MarkupConverter extends AbstractSchema2MarkupConverter<Swag
             return new Swagger2MarkupConverter(context);
         }
 
-        private void initExtensions(SwaggerContext context) {
-            extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getPathsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-            extensionRegistry.getSecurityDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
-        }
-
         private void applySwaggerExtensions(SwaggerContext context) {
             extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.apply(context.getSchema()));
         }
     }
 
+    private static void initExtensions(SwaggerContext context) {
+        Swagger2MarkupExtensionRegistry extensionRegistry = context.getExtensionRegistry();
+        extensionRegistry.getSwaggerModelExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getPathsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+        extensionRegistry.getSecurityDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
+    }
+
     public static class SwaggerContext extends Context<Swagger> {
-        private Swagger2MarkupConfig config;
-        private Swagger2MarkupExtensionRegistry extensionRegistry;
+        private final Swagger2MarkupConfig config;
+        private final Swagger2MarkupExtensionRegistry extensionRegistry;
+        private final ExampleCache exampleCache;
 
         public SwaggerContext(Swagger2MarkupConfig config,
                               Swagger2MarkupExtensionRegistry extensionRegistry,
                               Swagger schema, URI swaggerLocation, Labels labels) {
-            super(config, extensionRegistry, schema, swaggerLocation, labels);
+            this(config, extensionRegistry, schema, swaggerLocation, labels, null, new ExampleCache());
+        }
+
+        private SwaggerContext(Swagger2MarkupConfig config,
+                               Swagger2MarkupExtensionRegistry extensionRegistry,
+                               Swagger schema, URI swaggerLocation, Labels labels, Path outputPath,
+                               ExampleCache exampleCache) {
+            super(config, extensionRegistry, schema, swaggerLocation, labels, outputPath);
             this.config = config;
             this.extensionRegistry = extensionRegistry;
+            this.exampleCache = exampleCache;
+        }
+
+        /**
+         * Returns a copy of this context which writes to the given folder. The copy shares the example cache.
+         *
+         * @param outputPath the output path
+         * @return the copy
+         */
+        public SwaggerContext withOutputPath(Path outputPath) {
+            return new SwaggerContext(config, extensionRegistry, getSchema(), getSwaggerLocation(), getLabels(),
+                    outputPath, exampleCache);
+        }
+
+        /**
+         * Returns the examples of referenced models generated during this conversion.
+         *
+         * @return the example cache
+         */
+        public ExampleCache getExampleCache() {
+            return exampleCache;
         }
 
         @Override
@@ -1,5 +1,8 @@
 package com.logate.openapi2asciidoc.swagger2markup.adoc;
 
+import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.InlineDocumentImpl;
+import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.RenderedBlockImpl;
+import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.StructuralNodeImpl;
 import com.logate.openapi2asciidoc.swagger2markup.adoc.converter.internal.*;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
@@ -10,6 +13,8 @@ import org.asciidoctor.converter.StringConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -22,13 +27,20 @@ import static com.logate.openapi2asciidoc.swagger2markup.adoc.converter.internal
 @ConverterFor(AsciidocConverter.NAME)
 public class AsciidocConverter extends StringConverter {
 
-    private Logger logger = LoggerFactory.getLogger(getClass());
+    private static final Logger logger = LoggerFactory.getLogger(AsciidocConverter.class);
 
     public static final String NAME = "adoc";
 
-    private final Pattern emptyLineOrStartWith = Pattern.compile("(?m)^\\s*(?:\\r?\\n)|(?m)^\\s+");
-    private final Pattern coListItemIdPattern = Pattern.compile(".*-(\\d+)");
-    private final Pattern tableColumnsStylePattern = Pattern.compile("((\\d+)\\*)?([<^>])?(\\.[<^>])?(\\d+)?([adehlmsv])?");
+    private static final Pattern emptyLineOrStartWith = Pattern.compile("(?m)^\\s*(?:\\r?\\n)|(?m)^\\s+");
+    private static final Pattern coListItemIdPattern = Pattern.compile(".*-(\\d+)");
+    private static final Pattern tableColumnsStylePattern = Pattern.compile("((\\d+)\\*)?([<^>])?(\\.[<^>])?(\\d+)?([adehlmsv])?");
+    private static final Pattern digitsPattern = Pattern.compile("\\d+");
+
+    /**
+     * Converter shared by all AST nodes. The converter keeps no state between calls, the state of a conversion
+     * lives in its {@link AsciidocOutput}, so it can be used by any number of threads at once.
+     */
+    public static final AsciidocConverter INSTANCE = new AsciidocConverter(NAME, Collections.emptyMap());
 
     private static final java.util.List<String> attributeToExclude = Arrays.asList(
             "localtime",
@@ -79,116 +91,197 @@ public class AsciidocConverter extends StringConverter {
      */
     @Override
     public String convert(ContentNode node, String transform, Map<Object, Object> opts) {
+        StringBuilder sb = new StringBuilder();
+        return write(node, transform, new AsciidocOutput(sb)) ? sb.toString() : null;
+    }
+
+    /**
+     * Converts an {@link ContentNode} like {@link #convert(ContentNode, String, Map)}, but writes the result to the
+     * given target while the tree is traversed, instead of building it up as a string.
+     *
+     * @param node      The concrete instance of FlowNode to convert
+     * @param transform An optional String transform, see {@link #convert(ContentNode, String, Map)}
+     * @param target    The target to write the converted result to
+     * @throws IOException if writing to the target fails
+     */
+    public void convert(ContentNode node, String transform, Appendable target) throws IOException {
+        try {
+            write(node, transform, new AsciidocOutput(target));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Converts a block to the text it writes as child of another node, so that it can be written again later on
+     * through a {@link RenderedBlockImpl}.
+     *
+     * @param node            the block to convert
+     * @param insideTableCell whether the block is part of a table cell. Blank lines are then left for the output of
+     *                        the enclosing cell to fold.
+     * @return the converted text
+     */
+    public String convertBlock(StructuralNode node, boolean insideTableCell) {
+        StringBuilder sb = new StringBuilder();
+        write(node, null, new AsciidocOutput(sb, !insideTableCell));
+        return sb.toString();
+    }
+
+    private boolean write(ContentNode node, String transform, AsciidocOutput out) {
         if (null == transform) {
             transform = node.getNodeName();
         }
         switch (transform) {
             case "inline_quoted":
-                return convertInlineQuoted((PhraseNode) node);
+                out.append(convertInlineQuoted((PhraseNode) node));
+                break;
             case "paragraph":
-                return convertParagraph((StructuralNode) node);
+                writeParagraph((StructuralNode) node, out);
+                break;
+            case RenderedBlockImpl.CONTEXT:
+                out.append(((RenderedBlockImpl) node).getText());
+                break;
             case "inline_anchor":
-                return convertInlineAnchor((PhraseNode) node);
+                String anchor = convertInlineAnchor((PhraseNode) node);
+                if (null == anchor) {
+                    return false;
+                }
+                out.append(anchor);
+                break;
             case "section":
-                return convertSection((Section) node);
+                writeSection((Section) node, out);
+                break;
             case "listing":
-                return convertListing((Block) node);
+                writeListing((Block) node, out);
+                break;
             case "literal":
-                return convertLiteral((StructuralNode) node);
+                out.append(convertLiteral((StructuralNode) node));
+                break;
             case "ulist":
-                return convertUList((List) node);
+                writeUList((List) node, out);
+                break;
             case "olist":
-                return convertOList((List) node);
+                writeOList((List) node, out);
+                break;
             case "dlist":
-                return convertDescriptionList((DescriptionList) node);
+                writeDescriptionList((DescriptionList) node, out);
+                break;
             case "admonition":
-                return convertAdmonition((Block) node);
+                writeAdmonition((Block) node, out);
+                break;
             case "colist":
-                return convertCoList((List) node);
+                writeCoList((List) node, out);
+                break;
             case "embedded":
             case "document":
-                return convertEmbedded((Document) node);
+                writeEmbedded((Document) node, out);
+                break;
             case "example":
-                return convertExample((Block) node);
+                writeExample((Block) node, out);
+                break;
             case "floating_title":
-                return convertFloatingTitle((StructuralNode) node);
+                out.append(convertFloatingTitle((StructuralNode) node));
+                break;
             case "image":
-                return convertImage((StructuralNode) node);
+                writeImage((StructuralNode) node, out);
+                break;
             case "inline_break":
-                return convertInlineBreak(node);
+                out.append(convertInlineBreak(node));
+                break;
             case "inline_button":
-                return convertInlineButton(node);
+                out.append(convertInlineButton(node));
+                break;
             case "inline_callout":
-                return convertInlineCallout(node);
+                out.append(convertInlineCallout(node));
+                break;
             case "inline_footnote":
-                return convertInlineFootnote(node);
+                out.append(convertInlineFootnote(node));
+                break;
             case "inline_image":
-                return convertInlineImage((PhraseNode) node);
+                out.append(convertInlineImage((PhraseNode) node));
+                break;
             case "inline_indexterm":
-                return convertInlineIndexTerm(node);
+                out.append(convertInlineIndexTerm(node));
+                break;
             case "inline_kbd":
-                return convertInlineKbd(node);
+                out.append(convertInlineKbd(node));
+                break;
             case "inline_menu":
-                return convertInlineMenu(node);
+                out.append(convertInlineMenu(node));
+                break;
             case "open":
-                return convertOpen((StructuralNode) node);
+                writeOpen((StructuralNode) node, out);
+                break;
             case "page_break":
-                return convertPageBreak(node);
+                out.append(convertPageBreak(node));
+                break;
             case "preamble":
-                return convertPreamble((StructuralNode) node);
+                out.append(convertPreamble((StructuralNode) node));
+                break;
             case "quote":
-                return convertQuote((StructuralNode) node);
+                writeQuote((StructuralNode) node, out);
+                break;
             case "sidebar":
-                return convertSidebar((StructuralNode) node);
+                writeSidebar((StructuralNode) node, out);
+                break;
             case "stem":
-                return convertStem(node);
+                out.append(convertStem(node));
+                break;
             case "table":
-                return convertTable((Table) node);
+                writeTable((Table) node, out);
+                break;
             case "thematic_break":
-                return convertThematicBreak(node);
+                out.append(convertThematicBreak(node));
+                break;
             case "verse":
-                return convertVerse((StructuralNode) node);
+                writeVerse((StructuralNode) node, out);
+                break;
             case "video":
-                return convertVideo(node);
+                out.append(convertVideo(node));
+                break;
             case "toc":
-                return convertToc(node);
+                out.append(convertToc(node));
+                break;
             case "pass":
-                return convertPass(node);
+                out.append(convertPass(node));
+                break;
             case "audio":
-                return convertAudio(node);
-            // didn't exist on html converter
+                out.append(convertAudio(node));
+                break;
             case "list":
-                return convertList((List) node);
+                out.append(convertList((List) node));
+                break;
             case "list_item":
-                return convertListItem((ListItem) node);
+                writeListItem((ListItem) node, out);
+                break;
             default:
                 logger.debug("Don't know how to convert transform: [" + transform + "] Node: " + node);
-                return null;
+                return false;
         }
+        return true;
     }
 
-    String convertEmbedded(Document node) {
+    void writeEmbedded(Document node, AsciidocOutput out) {
         logger.debug("convertEmbedded");
-        StringBuilder sb = new StringBuilder();
-        appendId(node, sb);
+        long offset = out.position();
+        appendId(node, out);
         if (StringUtils.isNotBlank(node.getDoctitle())) {
-            sb.append(repeat(node.getLevel() + 1, DOCUMENT_TITLE)).append(' ').append(StringEscapeUtils.unescapeHtml4(node.getDoctitle())).append(LINE_SEPARATOR);
+            out.append(repeat(node.getLevel() + 1, DOCUMENT_TITLE)).append(' ').append(StringEscapeUtils.unescapeHtml4(node.getDoctitle())).append(LINE_SEPARATOR);
         }
         Map<String, Object> attributes = node.getAttributes();
-        appendAuthors(sb, attributes);
-        appendRevisionDetails(sb, attributes);
-        appendDocumentAttributes(sb, attributes);
-        appendTrailingNewLine(sb);
-        appendChildBlocks(node, sb);
-        return sb.toString();
+        appendAuthors(out, attributes);
+        appendRevisionDetails(out, attributes);
+        appendDocumentAttributes(out, attributes);
+        appendTrailingNewLine(out, offset);
+        appendChildBlocks(node, out, offset);
     }
 
-    private void appendAuthors(StringBuilder sb, Map<String, Object> attributes) {
+    private void appendAuthors(AsciidocOutput out, Map<String, Object> attributes) {
         Long authorCount = (Long) attributes.getOrDefault("authorcount", 0L);
         if (authorCount == 1) {
             String author = getAuthorDetail(attributes, "author", "email");
             if (StringUtils.isNotBlank(author)) {
-                sb.append(author).append(LINE_SEPARATOR);
+                out.append(author).append(LINE_SEPARATOR);
             }
         } else if (authorCount > 1) {
             String authors = LongStream.rangeClosed(1, authorCount)
@@ -196,25 +289,25 @@ public class AsciidocConverter extends StringConverter {
                     .collect(Collectors.joining("; "));
 
             if (StringUtils.isNotBlank(authors)) {
-                sb.append(authors).append(LINE_SEPARATOR);
+                out.append(authors).append(LINE_SEPARATOR);
             }
         }
     }
 
-    private void appendDocumentAttributes(StringBuilder sb, Map<String, Object> attributes) {
+    private void appendDocumentAttributes(AsciidocOutput out, Map<String, Object> attributes) {
         attributes.forEach((k, v) -> {
             if (!attributeToExclude.contains(k) && v != null && !v.toString().isEmpty())
-                sb.append(COLON).append(k).append(COLON).append(" ").append(v).append(LINE_SEPARATOR);
+                out.append(COLON).append(k).append(COLON).append(" ").append(v).append(LINE_SEPARATOR);
         });
     }
 
-    private void appendRevisionDetails(StringBuilder sb, Map<String, Object> attributes) {
+    private void appendRevisionDetails(AsciidocOutput out, Map<String, Object> attributes) {
         String revDetails = Stream.of(attributes.get("revnumber"), attributes.get("revdate")).filter(Objects::nonNull)
                 .filter(o -> !o.toString().isEmpty()).map(Object::toString)
                 .collect(Collectors.joining(", "));
 
         if (!revDetails.isEmpty()) {
-            sb.append("v").append(revDetails).append(LINE_SEPARATOR);
+            out.append("v").append(revDetails).append(LINE_SEPARATOR);
         }
     }
 
@@ -285,21 +378,20 @@ public class AsciidocConverter extends StringConverter {
         }
     }
 
-    private String convertAdmonition(Block node) {
+    private void writeAdmonition(Block node, AsciidocOutput out) {
         logger.debug("convertAdmonition");
-        StringBuilder sb = new StringBuilder();
+        long offset = out.position();
 
         java.util.List<StructuralNode> blocks = node.getBlocks();
         if (blocks.isEmpty()) {
-            sb.append(node.getStyle()).append(": ").append(node.getSource());
+            out.append(node.getStyle()).append(": ").append(node.getSource());
         } else {
-            appendTitle(node, sb);
-            sb.append(ATTRIBUTES_BEGIN).append(node.getStyle()).append(ATTRIBUTES_END)
+            appendTitle(node, out);
+            out.append(ATTRIBUTES_BEGIN).append(node.getStyle()).append(ATTRIBUTES_END)
                     .append(LINE_SEPARATOR).append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
-            appendChildBlocks(node, sb);
-            sb.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
+            appendChildBlocks(node, out, offset);
+            out.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
         }
-        return sb.toString();
     }
 
     private String convertInlineQuoted(PhraseNode node) {
@@ -340,14 +432,13 @@ public class AsciidocConverter extends StringConverter {
                 repeat(node.getLevel() + 1, TITLE) + ' ' + node.getTitle() + LINE_SEPARATOR;
     }
 
-    private String convertExample(Block node) {
+    private void writeExample(Block node, AsciidocOutput out) {
         logger.debug("convertExample");
-        StringBuilder sb = new StringBuilder();
-        appendTitle(node, sb);
-        sb.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
-        appendChildBlocks(node, sb);
-        sb.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
-        return sb.toString();
+        long offset = out.position();
+        appendTitle(node, out);
+        out.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
+        appendChildBlocks(node, out, offset);
+        out.append(DELIMITER_EXAMPLE).append(LINE_SEPARATOR);
     }
 
     private String convertInlineButton(ContentNode node) {
@@ -394,24 +485,23 @@ public class AsciidocConverter extends StringConverter {
         return "convertInlineMenu";
     }
 
-    private String convertOpen(StructuralNode node) {
+    private void writeOpen(StructuralNode node, AsciidocOutput out) {
         logger.debug("convertOpen");
-        StringBuilder sb = new StringBuilder();
+        long offset = out.position();
 
         switch (node.getStyle()) {
             case "abstract":
-                sb.append(ATTRIBUTES_BEGIN).append("abstract").append(ATTRIBUTES_END).append(LINE_SEPARATOR);
+                out.append(ATTRIBUTES_BEGIN).append("abstract").append(ATTRIBUTES_END).append(LINE_SEPARATOR);
                 break;
             case "open":
-                sb.append(DELIMITER_OPEN_BLOCK).append(LINE_SEPARATOR);
+                out.append(DELIMITER_OPEN_BLOCK).append(LINE_SEPARATOR);
         }
-        sb.append(Optional.ofNullable(((Block) node).getSource()).orElse(""));
-        appendChildBlocks(node, sb);
+        out.append(Optional.ofNullable(((Block) node).getSource()).orElse(""));
+        appendChildBlocks(node, out, offset);
 
         if ("open".equals(node.getStyle())) {
-            sb.append(DELIMITER_OPEN_BLOCK).append(LINE_SEPARATOR);
+            out.append(DELIMITER_OPEN_BLOCK).append(LINE_SEPARATOR);
         }
-        return sb.toString();
     }
 
     private String convertPageBreak(ContentNode node) {
@@ -419,36 +509,33 @@ public class AsciidocConverter extends StringConverter {
         return DELIMITER_PAGE_BREAK + LINE_SEPARATOR;
     }
 
-    private String convertQuote(StructuralNode node) {
+    private void writeQuote(StructuralNode node, AsciidocOutput out) {
         logger.debug("convertQuote");
-        StringBuilder sb = new StringBuilder();
-        appendTitle(node, sb);
-        sb.append(ATTRIBUTES_BEGIN);
+        long offset = out.position();
+        appendTitle(node, out);
+        out.append(ATTRIBUTES_BEGIN);
         java.util.List<String> attrs = new ArrayList<>();
         if (StringUtils.isNotBlank(node.getStyle())) {
             attrs.add("quote");
         }
         appendAttributeTo(node, attrs, "attribution");
         appendAttributeTo(node, attrs, "citetitle");
-        sb.append(String.join(",", attrs)).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
+        out.append(String.join(",", attrs)).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
         java.util.List<StructuralNode> blocks = node.getBlocks();
         if (!blocks.isEmpty()) {
-            sb.append("____").append(LINE_SEPARATOR);
-            appendChildBlocks(node, sb);
-            sb.append("____").append(LINE_SEPARATOR);
+            out.append("____").append(LINE_SEPARATOR);
+            appendChildBlocks(node, out, offset);
+            out.append("____").append(LINE_SEPARATOR);
         } else {
-            sb.append(((Block) node).getSource());
+            out.append(((Block) node).getSource());
         }
-
-        return sb.toString();
     }
 
-    private String convertSidebar(StructuralNode node) {
+    private void writeSidebar(StructuralNode node, AsciidocOutput out) {
         logger.debug("convertSidebar");
-        StringBuilder sb = new StringBuilder();
-        appendTitle(node, sb);
-        appendChildBlocks(node, sb);
-        return sb.toString();
+        long offset = out.position();
+        appendTitle(node, out);
+        appendChildBlocks(node, out, offset);
     }
 
     private String convertStem(ContentNode node) {
@@ -461,29 +548,28 @@ public class AsciidocConverter extends StringConverter {
         return DELIMITER_THEMATIC_BREAK + LINE_SEPARATOR;
     }
 
-    private String convertVerse(StructuralNode node) {
+    private void writeVerse(StructuralNode node, AsciidocOutput out) {
         logger.debug("convertVerse");
-        StringBuilder sb = new StringBuilder();
-        appendTitle(node, sb);
-        sb.append(ATTRIBUTES_BEGIN);
+        long offset = out.position();
+        appendTitle(node, out);
+        out.append(ATTRIBUTES_BEGIN);
         java.util.List<String> attrs = new ArrayList<>();
         if (StringUtils.isNotBlank(node.getStyle())) {
             attrs.add("verse");
         }
         appendAttributeTo(node, attrs, "attribution");
         appendAttributeTo(node, attrs, "citetitle");
-        sb.append(String.join(",", attrs)).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
+        out.append(String.join(",", attrs)).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
         String source = ((Block) node).getSource();
         boolean matches = emptyLineOrStartWith.matcher(source).find();
         if (matches) {
-            sb.append(DELIMITER_VERSE).append(LINE_SEPARATOR);
+            out.append(DELIMITER_VERSE).append(LINE_SEPARATOR);
         }
-        sb.append(source);
+        out.append(source);
         if (matches) {
-            sb.append(LINE_SEPARATOR).append(DELIMITER_VERSE);
+            out.append(LINE_SEPARATOR).append(DELIMITER_VERSE);
         }
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        appendTrailingNewLine(out, offset);
     }
 
     private String convertVideo(ContentNode node) {
@@ -506,34 +592,34 @@ public class AsciidocConverter extends StringConverter {
         return "convertAudio";
     }
 
-    private String convertCell(Cell node) {
+    private void writeCell(Cell node, AsciidocOutput out) {
         logger.debug("convertCell");
-        StringBuilder sb = new StringBuilder();
+        long offset = out.position();
         String source = node.getSource();
         if (StringUtils.isNotBlank(source)) {
-            sb.append(source);
+            out.append(source);
         }
         Document innerDocument = node.getInnerDocument();
-        if (null != innerDocument) {
-            appendChildBlocks(innerDocument, sb, false);
+        if (innerDocument instanceof InlineDocumentImpl && !((InlineDocumentImpl) innerDocument).isExpanded()) {
+            appendInlineParagraph(((InlineDocumentImpl) innerDocument).getText(), out);
+        } else if (null != innerDocument) {
+            appendChildBlocks(innerDocument, out, offset, false);
         }
-        return sb.toString().replaceAll(LINE_SEPARATOR + LINE_SEPARATOR + "+", LINE_SEPARATOR + LINE_SEPARATOR);
     }
 
-    private String convertRow(Row node, java.util.List<TableCellStyle> columnStyles, String delimiterTableCell) {
+    private void writeRow(Row node, java.util.List<TableCellStyle> columnStyles, String delimiterTableCell, AsciidocOutput out) {
         logger.debug("convertRow");
-        StringBuilder sb = new StringBuilder();
         node.getCells().forEach(cell -> {
             boolean addNewLine = false;
             int colspan = cell.getColspan();
             if (colspan != 0) {
                 addNewLine = true;
-                sb.append(colspan).append('+');
+                out.append(colspan).append('+');
             }
             int rowspan = cell.getRowspan();
             if (rowspan != 0) {
                 addNewLine = true;
-                sb.append('.').append(rowspan).append('+');
+                out.append('.').append(rowspan).append('+');
             }
             int index = cell.getColumn().getColumnNumber() - 1;
             TableCellStyle tableCellStyle = (columnStyles.size() > index) ? columnStyles.get(index) : null;
@@ -543,31 +629,33 @@ public class AsciidocConverter extends StringConverter {
             if ((null != hAlignment) && (null == tableCellStyle || hAlignment != tableCellStyle.horizontalAlignment)) {
                 hAlignmentAdded = true;
                 addNewLine = true;
-                sb.append(hAlignment.getDelimiter());
+                out.append(hAlignment.getDelimiter());
             }
 
             TableCellVerticalAlignment vAlignment = TableCellVerticalAlignment.fromName(cell.getVerticalAlignment().name());
             if ((null != vAlignment) && (null == tableCellStyle || hAlignmentAdded || vAlignment != tableCellStyle.verticalAlignment)) {
                 addNewLine = true;
-                sb.append(vAlignment.getDelimiter());
+                out.append(vAlignment.getDelimiter());
             }
 
             Style style = Style.fromName(cell.getAttribute("style", "").toString());
             if (null != style && (null == tableCellStyle || style != tableCellStyle.style)) {
                 addNewLine = true;
-                sb.append(style.getShortHand());
+                out.append(style.getShortHand());
             }
-            sb.append(delimiterTableCell).append(convertCell(cell));
+            out.append(delimiterTableCell);
+            out.beginCell();
+            writeCell(cell, out);
+            out.endCell();
             if (addNewLine) {
-                sb.append(LINE_SEPARATOR);
+                out.append(LINE_SEPARATOR);
             } else {
-                sb.append(' ');
+                out.append(' ');
             }
         });
-        return sb.toString();
     }
 
-    private String convertTable(Table node) {
+    private void writeTable(Table node, AsciidocOutput out) {
         logger.debug("convertTable");
         java.util.List<TableCellStyle> columnStyles = new ArrayList<>();
         for (String col : node.getAttribute("cols", "").toString().split(",")) {
@@ -598,18 +686,16 @@ public class AsciidocConverter extends StringConverter {
             }
         }
 
-        StringBuilder sb = new StringBuilder();
-        appendTitle(node, sb);
-        sb.append(new TableNode(node).toAsciiDocContent());
+        appendTitle(node, out);
+        out.append(new TableNode(node).toAsciiDocContent());
         boolean innerTable = isInnerTable(node);
         String tableDelimiter = innerTable ? DELIMITER_INNER_TABLE : DELIMITER_TABLE;
         String cellDelimiter = innerTable ? DELIMITER_INNER_TABLE_CELL : DELIMITER_TABLE_CELL;
-        sb.append(tableDelimiter).append(LINE_SEPARATOR);
-        appendRows(node.getHeader(), sb, columnStyles, cellDelimiter);
-        appendRows(node.getBody(), sb, columnStyles, cellDelimiter);
-        appendRows(node.getFooter(), sb, columnStyles, cellDelimiter);
-        sb.append(tableDelimiter).append(LINE_SEPARATOR);
-        return sb.toString();
+        out.append(tableDelimiter).append(LINE_SEPARATOR);
+        appendRows(node.getHeader(), out, columnStyles, cellDelimiter);
+        appendRows(node.getBody(), out, columnStyles, cellDelimiter);
+        appendRows(node.getFooter(), out, columnStyles, cellDelimiter);
+        out.append(tableDelimiter).append(LINE_SEPARATOR);
     }
 
     private boolean isInnerTable(ContentNode node) {
@@ -622,79 +708,76 @@ public class AsciidocConverter extends StringConverter {
         return false;
     }
 
-    private void appendRows(java.util.List<Row> rows, StringBuilder sb, java.util.List<TableCellStyle> columnStyles, String delimiterTableCell) {
-        rows.forEach(row -> sb.append(convertRow(row, columnStyles, delimiterTableCell)).append(LINE_SEPARATOR));
+    private void appendRows(java.util.List<Row> rows, AsciidocOutput out, java.util.List<TableCellStyle> columnStyles, String delimiterTableCell) {
+        rows.forEach(row -> {
+            writeRow(row, columnStyles, delimiterTableCell, out);
+            out.append(LINE_SEPARATOR);
+        });
     }
 
-    private String convertDescriptionList(DescriptionList node) {
+    private void writeDescriptionList(DescriptionList node, AsciidocOutput out) {
         logger.debug("convertDescriptionList");
-        StringBuilder sb = new StringBuilder();
+        long offset = out.position();
 
-        appendTitle(node, sb);
+        appendTitle(node, out);
         String style = Optional.ofNullable(node.getStyle()).orElse("");
         switch (style) {
             case STYLE_HORIZONTAL:
-                sb.append(ATTRIBUTES_BEGIN).append(STYLE_HORIZONTAL).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
-                node.getItems().forEach(item -> sb.append(convertDescriptionListEntry(item, node.getLevel(), false)));
+                out.append(ATTRIBUTES_BEGIN).append(STYLE_HORIZONTAL).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
+                node.getItems().forEach(item -> writeDescriptionListEntry(item, node.getLevel(), false, out));
                 break;
             case STYLE_Q_AND_A:
-                sb.append(ATTRIBUTES_BEGIN).append(STYLE_Q_AND_A).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
+                out.append(ATTRIBUTES_BEGIN).append(STYLE_Q_AND_A).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
             default:
-                node.getItems().forEach(item -> sb.append(convertDescriptionListEntry(item, node.getLevel(), true)));
+                node.getItems().forEach(item -> writeDescriptionListEntry(item, node.getLevel(), true, out));
                 break;
         }
-        appendTrailingNewLine(sb);
-
-        return sb.toString();
+        appendTrailingNewLine(out, offset);
     }
 
-    private String convertDescriptionListEntry(DescriptionListEntry node, int level, Boolean descriptionOnNewLine) {
+    private void writeDescriptionListEntry(DescriptionListEntry node, int level, Boolean descriptionOnNewLine, AsciidocOutput out) {
         logger.debug("convertDescriptionListEntry");
-        StringBuilder sb = new StringBuilder();
+        long offset = out.position();
         String delimiter = repeat(level + 1, MARKER_D_LIST_ITEM);
         String entryTerms = node.getTerms().stream()
                 .map(term -> Optional.ofNullable(term.getSource()).orElse(""))
                 .collect(Collectors.joining(delimiter + LINE_SEPARATOR, "", delimiter));
-        sb.append(entryTerms);
+        out.append(entryTerms);
         ListItem description = node.getDescription();
         if (null != description) {
             if (descriptionOnNewLine) {
-                sb.append(LINE_SEPARATOR);
+                out.append(LINE_SEPARATOR);
             }
             String desc = Optional.ofNullable(description.getSource()).orElse("");
             if (StringUtils.isNotBlank(desc)) {
-                sb.append(desc).append(LINE_SEPARATOR);
+                out.append(desc).append(LINE_SEPARATOR);
             }
-            appendChildBlocks(description, sb);
+            appendChildBlocks(description, out, offset);
         }
-        return sb.toString();
     }
 
-    private String convertListing(Block node) {
+    private void writeListing(Block node, AsciidocOutput out) {
         logger.debug("convertListing");
-        StringBuilder sb = new StringBuilder();
-        appendTitle(node, sb);
+        appendTitle(node, out);
         if (STYLE_SOURCE.equals(node.getStyle())) {
-            sb.append(new SourceNode(node).toAsciiDocContent());
+            out.append(new SourceNode(node).toAsciiDocContent());
         } else {
-            sb.append(new BlockListingNode(node).toAsciiDocContent());
+            out.append(new BlockListingNode(node).toAsciiDocContent());
         }
-        return sb.toString();
     }
 
-    private String convertUList(List node) {
+    private void writeUList(List node, AsciidocOutput out) {
         logger.debug("convertUList");
-        StringBuilder sb = new StringBuilder();
-        appendStyle(node, sb);
-        appendTitle(node, sb);
-        appendChildBlocks(node, sb);
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        long offset = out.position();
+        appendStyle(node, out);
+        appendTitle(node, out);
+        appendChildBlocks(node, out, offset);
+        appendTrailingNewLine(out, offset);
     }
 
-    private String convertOList(List node) {
+    private void writeOList(List node, AsciidocOutput out) {
         logger.debug("convertOList");
-        StringBuilder sb = new StringBuilder();
+        long offset = out.position();
         java.util.List<String> attrs = new ArrayList<>();
         String start = node.getAttribute("start", "").toString();
         if (StringUtils.isNotBlank(start)) {
@@ -704,49 +787,46 @@ public class AsciidocConverter extends StringConverter {
             attrs.add("%reversed");
         }
         if (!attrs.isEmpty()) {
-            sb.append(ATTRIBUTES_BEGIN).append(String.join(",", attrs)).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
+            out.append(ATTRIBUTES_BEGIN).append(String.join(",", attrs)).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
         }
-        appendTitle(node, sb);
-        appendChildBlocks(node, sb);
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        appendTitle(node, out);
+        appendChildBlocks(node, out, offset);
+        appendTrailingNewLine(out, offset);
     }
 
-    private String convertCoList(List node) {
+    private void writeCoList(List node, AsciidocOutput out) {
         logger.debug("convertCoList");
-        StringBuilder result = new StringBuilder();
-        appendChildBlocks(node, result);
-        return result.toString();
+        long offset = out.position();
+        appendChildBlocks(node, out, offset);
     }
 
-    private String convertListItem(ListItem node) {
+    private void writeListItem(ListItem node, AsciidocOutput out) {
         logger.debug("convertListItem");
-        StringBuilder sb = new StringBuilder();
+        long offset = out.position();
 
         String marker = Optional.ofNullable(node.getMarker()).orElse(repeat(node.getLevel(), MARKER_LIST_ITEM));
 
         String coids = node.getAttribute("coids", "").toString();
         Matcher matcher = coListItemIdPattern.matcher(coids);
         if (matcher.find()) {
-            marker = marker.replaceAll("\\d+", matcher.group(1));
+            marker = digitsPattern.matcher(marker).replaceAll(matcher.group(1));
         }
 
-        sb.append(marker).append(" ");
+        out.append(marker).append(" ");
 
         if (node.hasAttribute("checkbox")) {
-            sb.append('[');
+            out.append('[');
             if (node.hasAttribute("checked")) {
-                sb.append('x');
+                out.append('x');
             } else {
-                sb.append(' ');
+                out.append(' ');
             }
-            sb.append(']').append(' ');
+            out.append(']').append(' ');
         }
 
-        sb.append(Optional.ofNullable(node.getSource()).orElse(""));
-        appendTrailingNewLine(sb);
-        appendChildBlocks(node, sb);
-        return sb.toString();
+        out.append(Optional.ofNullable(node.getSource()).orElse(""));
+        appendTrailingNewLine(out, offset);
+        appendChildBlocks(node, out, offset);
     }
 
     private String convertList(List node) {
@@ -759,13 +839,11 @@ public class AsciidocConverter extends StringConverter {
         return node.getContent().toString();
     }
 
-    private String convertImage(StructuralNode node) {
+    private void writeImage(StructuralNode node, AsciidocOutput out) {
         logger.debug("convertImage");
-        StringBuilder sb = new StringBuilder();
-        appendTitle(node, sb);
-        appendRoles(node, sb);
-        sb.append(new BlockImageNode(node).toAsciiDocContent());
-        return sb.toString();
+        appendTitle(node, out);
+        appendRoles(node, out);
+        out.append(new BlockImageNode(node).toAsciiDocContent());
     }
 
     private String convertLiteral(StructuralNode node) {
@@ -774,25 +852,23 @@ public class AsciidocConverter extends StringConverter {
                 StringEscapeUtils.unescapeHtml4(node.getContent().toString()) + LINE_SEPARATOR;
     }
 
-    private String convertParagraph(StructuralNode node) {
+    private void writeParagraph(StructuralNode node, AsciidocOutput out) {
         logger.debug("convertParagraph");
-        StringBuilder sb = new StringBuilder();
-        appendTitle(node, sb);
-        sb.append(new ParagraphAttributes(node).toAsciiDocContent());
-        appendSource((Block) node, sb);
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        long offset = out.position();
+        appendTitle(node, out);
+        out.append(new ParagraphAttributes(node).toAsciiDocContent());
+        appendSource((Block) node, out);
+        appendTrailingNewLine(out, offset);
     }
 
-    private String convertSection(Section node) {
+    private void writeSection(Section node, AsciidocOutput out) {
         logger.debug("convertSection");
-        StringBuilder sb = new StringBuilder();
-        appendId(node, sb);
-        sb.append(new DelimitedBlockNode(node).toAsciiDocContent()).append(StringUtils.repeat(TITLE, node.getLevel() + 1))
+        long offset = out.position();
+        appendId(node, out);
+        out.append(new DelimitedBlockNode(node).toAsciiDocContent()).append(StringUtils.repeat(TITLE, node.getLevel() + 1))
                 .append(" ").append(StringEscapeUtils.unescapeHtml4(node.getTitle())).append(LINE_SEPARATOR);
-        appendChildBlocks(node, sb);
-        appendTrailingNewLine(sb);
-        return sb.toString();
+        appendChildBlocks(node, out, offset);
+        appendTrailingNewLine(out, offset);
     }
 
     private void append_link_constraint_attrs(ContentNode node, java.util.List<String> attrs) {
@@ -816,64 +892,80 @@ public class AsciidocConverter extends StringConverter {
         return new String(new char[count]).replace("\0", with);
     }
 
-    private void appendChildBlocks(StructuralNode parentNode, StringBuilder sb) {
-        appendChildBlocks(parentNode, sb, true);
+    private void appendChildBlocks(StructuralNode parentNode, AsciidocOutput out, long offset) {
+        appendChildBlocks(parentNode, out, offset, true);
     }
 
-    private void appendChildBlocks(StructuralNode parentNode, StringBuilder sb, boolean addTrailingLineSeparator) {
+    /**
+     * Writes the child blocks of a node. A child which converts to a blank string is left out, together with its
+     * list continuation.
+     *
+     * @param offset the position at which the output of the node, that the blocks are appended to, started
+     */
+    private void appendChildBlocks(StructuralNode parentNode, AsciidocOutput out, long offset, boolean addTrailingLineSeparator) {
         final boolean isParentAListItem = parentNode instanceof ListItem || parentNode instanceof DescriptionListEntry;
         parentNode.getBlocks().forEach(childNode -> {
-            String childNodeValue = childNode.convert();
-            if (StringUtils.isNotBlank(childNodeValue)) {
-                if (isParentAListItem && (sb.toString().contains("+" + LINE_SEPARATOR) || !(childNode instanceof List || childNode instanceof DescriptionList))) {
-                    sb.append('+').append(LINE_SEPARATOR);
-                }
-                sb.append(childNodeValue);
-                if (addTrailingLineSeparator && !StringUtils.endsWith(childNodeValue, LINE_SEPARATOR)) {
-                    sb.append(LINE_SEPARATOR);
-                }
+            boolean continuation = isParentAListItem && (out.containsContinuation(offset) || !(childNode instanceof List || childNode instanceof DescriptionList));
+            out.beginBlock(continuation ? "+" + LINE_SEPARATOR : "");
+            long childOffset = out.position();
+            if (childNode instanceof StructuralNodeImpl) {
+                write(childNode, null, out);
+            } else {
+                out.append(Objects.toString(childNode.convert(), ""));
+            }
+            if (out.endBlock() && addTrailingLineSeparator && !out.endsWithLineSeparator(childOffset)) {
+                out.append(LINE_SEPARATOR);
             }
         });
     }
 
-    private void appendTrailingNewLine(StringBuilder sb) {
-        if (!sb.toString().endsWith(LINE_SEPARATOR + LINE_SEPARATOR)) {
-            sb.append(LINE_SEPARATOR);
+    /**
+     * Writes the text of an unexpanded {@link InlineDocumentImpl} as its single paragraph would be written.
+     */
+    private void appendInlineParagraph(String source, AsciidocOutput out) {
+        if (StringUtils.isNotBlank(source)) {
+            out.append(source).append(LINE_SEPARATOR).append(LINE_SEPARATOR);
+        }
+    }
+
+    private void appendTrailingNewLine(AsciidocOutput out, long offset) {
+        if (!out.endsWithBlankLine(offset)) {
+            out.append(LINE_SEPARATOR);
         }
     }
 
-    private void appendId(StructuralNode node, StringBuilder sb) {
+    private void appendId(StructuralNode node, AsciidocOutput out) {
         String id = node.getId();
         if (StringUtils.isNotBlank(id)) {
-            sb.append("[[").append(id).append("]]").append(LINE_SEPARATOR);
+            out.append("[[").append(id).append("]]").append(LINE_SEPARATOR);
         }
     }
 
-    private void appendSource(Block node, StringBuilder sb) {
+    private void appendSource(Block node, AsciidocOutput out) {
         String source = node.getSource();
         if (StringUtils.isNotBlank(source)) {
-            sb.append(source).append(LINE_SEPARATOR);
+            out.append(source).append(LINE_SEPARATOR);
         }
     }
 
-    private void appendTitle(StructuralNode node, StringBuilder sb) {
+    private void appendTitle(StructuralNode node, AsciidocOutput out) {
         String title = node.getTitle();
         if (StringUtils.isNotBlank(title)) {
-            sb.append(".").append(StringEscapeUtils.unescapeHtml4(title)).append(LINE_SEPARATOR);
+            out.append(".").append(StringEscapeUtils.unescapeHtml4(title)).append(LINE_SEPARATOR);
         }
     }
 
-    private void appendStyle(StructuralNode node, StringBuilder sb) {
+    private void appendStyle(StructuralNode node, AsciidocOutput out) {
         String style = node.getStyle();
         if (StringUtils.isNotBlank(style)) {
-            sb.append(ATTRIBUTES_BEGIN).append(style).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
+            out.append(ATTRIBUTES_BEGIN).append(style).append(ATTRIBUTES_END).append(LINE_SEPARATOR);
         }
     }
 
-    private void appendRoles(StructuralNode node, StringBuilder sb) {
+    private void appendRoles(StructuralNode node, AsciidocOutput out) {
         java.util.List<String> roles = node.getRoles();
         if (!roles.isEmpty()) {
-            sb.append(ATTRIBUTES_BEGIN).append(".").append(String.join(".", roles))
+            out.append(ATTRIBUTES_BEGIN).append(".").append(String.join(".", roles))
                     .append(ATTRIBUTES_END).append(LINE_SEPARATOR);
         }
     }
@@ -0,0 +1,225 @@
+package com.logate.openapi2asciidoc.swagger2markup.adoc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.logate.openapi2asciidoc.swagger2markup.adoc.converter.internal.Delimiters.LINE_SEPARATOR;
+
+/**
+ * Target of a single conversion pass. All nodes of a tree write to the same instance, which forwards the text to an
+ * {@link Appendable} as it is produced, so no node has to build and return a string of its own.
+ * <p>
+ * It keeps just enough state to answer what the converter needs to know about the text of a node: whether it ends
+ * with a line separator or a blank line, and whether it contains a list continuation. Child blocks are opened with
+ * {@link #beginBlock(String)}; their output is held back as long as it is blank, so that a blank child can be dropped
+ * again together with its prefix. Output between {@link #beginCell()} and {@link #endCell()} gets runs of blank lines
+ * folded, as the converter does for table cells.
+ */
+final class AsciidocOutput {
+
+    private static final String BLANK_LINE = LINE_SEPARATOR + LINE_SEPARATOR;
+    private static final String CONTINUATION = "+" + LINE_SEPARATOR;
+    private static final char LINE_SEPARATOR_END = LINE_SEPARATOR.charAt(LINE_SEPARATOR.length() - 1);
+
+    private final Appendable target;
+    private final boolean foldCells;
+
+    private final StringBuilder pending = new StringBuilder();
+    private final Deque<Mark> blocks = new ArrayDeque<>();
+    private int pendingBlocks;
+
+    private long position;
+    private long continuationPosition = -1;
+    private char[] tail = new char[BLANK_LINE.length() + 1];
+
+    private int cellDepth;
+    private long cellPosition;
+    private final char[] cellTail = new char[BLANK_LINE.length()];
+
+    AsciidocOutput(Appendable target) {
+        this(target, true);
+    }
+
+    /**
+     * @param foldCells false to leave blank lines in table cells as they are, for text that is written to another
+     *                  output inside a table cell later on, which folds them together with the rest of the cell
+     */
+    AsciidocOutput(Appendable target, boolean foldCells) {
+        this.target = target;
+        this.foldCells = foldCells;
+    }
+
+    /**
+     * Returns the number of characters written so far, including held back ones. Nodes remember it when they start,
+     * to ask questions about their own text later on.
+     */
+    long position() {
+        return position;
+    }
+
+    AsciidocOutput append(CharSequence text) {
+        CharSequence value = null == text ? "null" : text;
+        int length = value.length();
+        int start = 0;
+        if (pendingBlocks > 0) {
+            while (start < length && Character.isWhitespace(value.charAt(start))) {
+                hold(value.charAt(start++));
+            }
+            if (start == length) {
+                return this;
+            }
+            flushPending();
+        }
+        emit(value, start, length);
+        for (int i = start; i < length; i++) {
+            track(value.charAt(i));
+        }
+        return this;
+    }
+
+    AsciidocOutput append(char c) {
+        return append(String.valueOf(c));
+    }
+
+    AsciidocOutput append(Object value) {
+        return append(String.valueOf(value));
+    }
+
+    /**
+     * Opens a child block. Until it writes something else than whitespace, its output and the given prefix are held
+     * back.
+     *
+     * @param prefix text to write in front of the block, only if the block is not blank
+     */
+    void beginBlock(String prefix) {
+        blocks.push(new Mark(pending.length(), position, continuationPosition, tail.clone()));
+        pendingBlocks++;
+        for (int i = 0; i < prefix.length(); i++) {
+            hold(prefix.charAt(i));
+        }
+    }
+
+    /**
+     * Closes the innermost child block. A blank block is dropped, as if neither it nor its prefix had been written.
+     *
+     * @return true if the block was written, false if it was blank
+     */
+    boolean endBlock() {
+        Mark mark = blocks.pop();
+        if (pendingBlocks == 0) {
+            return true;
+        }
+        pendingBlocks--;
+        pending.setLength(mark.pendingLength);
+        position = mark.position;
+        continuationPosition = mark.continuationPosition;
+        tail = mark.tail;
+        return false;
+    }
+
+    void beginCell() {
+        if (cellDepth++ == 0) {
+            cellPosition = 0;
+        }
+    }
+
+    void endCell() {
+        cellDepth--;
+    }
+
+    boolean endsWithLineSeparator(long start) {
+        return position - start >= LINE_SEPARATOR.length() && endsWith(LINE_SEPARATOR);
+    }
+
+    boolean endsWithBlankLine(long start) {
+        return position - start >= BLANK_LINE.length() && endsWith(BLANK_LINE);
+    }
+
+    boolean containsContinuation(long start) {
+        return continuationPosition >= start;
+    }
+
+    private void hold(char c) {
+        pending.append(c);
+        track(c);
+    }
+
+    private void flushPending() {
+        emit(pending, 0, pending.length());
+        pending.setLength(0);
+        pendingBlocks = 0;
+    }
+
+    private void track(char c) {
+        tail[(int) (position % tail.length)] = c;
+        position++;
+        if (c == LINE_SEPARATOR_END && endsWith(CONTINUATION)) {
+            continuationPosition = position - CONTINUATION.length();
+        }
+    }
+
+    private boolean endsWith(String suffix) {
+        int length = suffix.length();
+        if (position < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (tail[(int) ((position - length + i) % tail.length)] != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void emit(CharSequence text, int start, int end) {
+        try {
+            if (cellDepth == 0 || !foldCells) {
+                target.append(text, start, end);
+                return;
+            }
+            // same as replacing LINE_SEPARATOR + LINE_SEPARATOR + "+" with a blank line in the whole cell
+            int run = start;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (c == LINE_SEPARATOR_END && cellEndsWithBlankLine()) {
+                    target.append(text, run, i);
+                    run = i + 1;
+                } else {
+                    cellTail[(int) (cellPosition++ % cellTail.length)] = c;
+                }
+            }
+            target.append(text, run, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean cellEndsWithBlankLine() {
+        int length = BLANK_LINE.length();
+        if (cellPosition < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (cellTail[(int) ((cellPosition - length + i) % cellTail.length)] != BLANK_LINE.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Mark {
+        private final int pendingLength;
+        private final long position;
+        private final long continuationPosition;
+        private final char[] tail;
+
+        private Mark(int pendingLength, long position, long continuationPosition, char[] tail) {
+            this.pendingLength = pendingLength;
+            this.position = position;
+            this.continuationPosition = continuationPosition;
+            this.tail = tail;
+        }
+    }
+}
@@ -14,7 +14,7 @@ public class BlockImpl extends StructuralNodeImpl implements Block {
     }
 
     public BlockImpl(StructuralNode parent, String context, Object content) {
-        this(parent, context, new HashMap<>(), content);
+        this(parent, context, null, content);
     }
 
     public BlockImpl(StructuralNode parent, String context, Map<String, Object> attributes) {
@@ -22,7 +22,7 @@ public class BlockImpl extends StructuralNodeImpl implements Block {
     }
 
     public BlockImpl(StructuralNode parent, String context, Map<String, Object> attributes, Object content) {
-        this(parent, context, attributes, new ArrayList<>(), content, new ArrayList<>(), "", new ArrayList<>());
+        this(parent, context, attributes, null, content, null, "", null);
     }
 
     public BlockImpl(StructuralNode parent, String context, Map<String, Object> attributes, List<String> roles,
@@ -33,7 +33,7 @@ public class BlockImpl extends StructuralNodeImpl implements Block {
     public BlockImpl(StructuralNode parent, String context, Map<String, Object> attributes, List<String> roles,
                         Object content, List<StructuralNode> blocks, Integer level, String contentModel, List<String> subs) {
         super(parent, context, attributes, roles, content, blocks, level, contentModel, subs);
-        this.lines = new ArrayList<>();
+        this.lines = Collections.emptyList();
     }
 
     @Override
@@ -5,8 +5,6 @@ import org.asciidoctor.ast.Column;
 import org.asciidoctor.ast.Document;
 import org.asciidoctor.ast.Table;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,12 +17,12 @@ public class CellImpl extends ContentNodeImpl implements Cell {
     private Document innerDocument;
 
     public CellImpl(Column parent, String text) {
-        this(parent, "table_cell", new HashMap<>(), new ArrayList<>(), 0, 0);
+        this(parent, "table_cell", null, null, 0, 0);
         this.text = text;
     }
 
     public CellImpl(Column parent, Document innerDocument) {
-        this(parent, "table_cell", new HashMap<>(), new ArrayList<>(), 0, 0);
+        this(parent, "table_cell", null, null, 0, 0);
         this.innerDocument = innerDocument;
     }
 
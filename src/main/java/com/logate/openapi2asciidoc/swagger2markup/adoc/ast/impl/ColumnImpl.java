@@ -3,8 +3,6 @@ package com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl;
 import org.asciidoctor.ast.Column;
 import org.asciidoctor.ast.Table;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,7 +13,7 @@ public class ColumnImpl extends ContentNodeImpl implements Column {
     private Number width = 0;
 
     public ColumnImpl(Table parent) {
-        this(parent, "table_column", new HashMap<>(), new ArrayList<>());
+        this(parent, "table_column", null, null);
     }
 
     public ColumnImpl(Table parent, String context, Map<String, Object> attributes, List<String> roles) {
@@ -1,29 +1,35 @@
 package com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl;
 
+import org.apache.commons.lang3.StringUtils;
 import org.asciidoctor.ast.ContentNode;
 import org.asciidoctor.ast.Document;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 @SuppressWarnings("SuspiciousMethodCalls")
 public abstract class ContentNodeImpl implements ContentNode {
 
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
     private String id;
     private final String context;
-    private final Map<String, Object> attributes;
-    private final List<String> roles;
+    // most nodes never get attributes or roles, so both are created on first write. null stands for empty.
+    private Map<String, Object> attributes;
+    private List<String> roles;
     private final ContentNode parent;
 
     public ContentNodeImpl(ContentNode parent, String context) {
-        this(parent, context, new HashMap<>(), new ArrayList<>());
+        this(parent, context, null, null);
     }
 
     public ContentNodeImpl(ContentNode parent, String context, Map<String, Object> attributes, List<String> roles) {
         this.parent = parent;
-        this.context = context;
+        this.context = null != context ? context.intern() : null;
         this.attributes = attributes;
         this.roles = roles;
     }
@@ -41,7 +47,10 @@ public abstract class ContentNodeImpl implements ContentNode {
 
     @Override
     public void setId(String id) {
-        this.id = id.toLowerCase().replaceAll("\\s+", "_");
+        String lowerCaseId = id.toLowerCase();
+        // most ids have no whitespace at all, so the pattern is only run if there is some
+        this.id = StringUtils.containsWhitespace(lowerCaseId)
+                ? WHITESPACE_PATTERN.matcher(lowerCaseId).replaceAll("_") : lowerCaseId;
     }
 
     @Override
@@ -92,9 +101,14 @@ public abstract class ContentNodeImpl implements ContentNode {
         return false;
     }
 
+    /**
+     * Returns the attributes of this node. A node without attributes returns a shared read-only empty map, so that the
+     * converter reading them does not create a map for every node; attributes are added with
+     * {@link #setAttribute(String, Object, boolean)}.
+     */
     @Override
     public Map<String, Object> getAttributes() {
-        return attributes;
+        return null != attributes ? attributes : Collections.emptyMap();
     }
 
     @Override
@@ -122,12 +136,12 @@ public abstract class ContentNodeImpl implements ContentNode {
 
     @Override
     public Object getAttribute(Object name, Object defaultValue) {
-        return attributes.getOrDefault(name, defaultValue);
+        return null != attributes ? attributes.getOrDefault(name, defaultValue) : defaultValue;
     }
 
     @Override
     public Object getAttribute(Object name) {
-        return attributes.get(name);
+        return null != attributes ? attributes.get(name) : null;
     }
 
     @Override
@@ -150,7 +164,7 @@ public abstract class ContentNodeImpl implements ContentNode {
     @Override
     public boolean isAttribute(Object name, Object expected) {
         try {
-            if (attributes.containsKey(name)) {
+            if (hasAttribute(name)) {
                 return attributes.get(name).equals(expected);
             } else return false;
         } catch (Exception e) {
@@ -172,7 +186,7 @@ public abstract class ContentNodeImpl implements ContentNode {
 
     @Override
     public boolean hasAttribute(Object name) {
-        return attributes.containsKey(name);
+        return null != attributes && attributes.containsKey(name);
     }
 
     @Override
@@ -193,6 +207,9 @@ public abstract class ContentNodeImpl implements ContentNode {
 
     public boolean setAttribute(String name, Object value, boolean overwrite) {
         try {
+            if (null == attributes) {
+                attributes = new HashMap<>();
+            }
             if (overwrite) {
                 attributes.put(name, value);
             } else {
@@ -205,17 +222,17 @@ public abstract class ContentNodeImpl implements ContentNode {
     }
 
     public Object removeAttribute(String name){
-        return attributes.remove(name);
+        return null != attributes ? attributes.remove(name) : null;
     }
 
     public boolean removeAttribute(String name, Object value){
-        return attributes.remove(name, value);
+        return null != attributes && attributes.remove(name, value);
     }
 
     @Override
     public boolean isOption(Object name) {
         try {
-            Object o = attributes.get(name + "-option");
+            Object o = getAttribute(name + "-option");
             return null != o && o.toString().equals("");
         }catch (Exception ignored){
             return false;
@@ -237,7 +254,7 @@ public abstract class ContentNodeImpl implements ContentNode {
 
     @Override
     public String getRole() {
-        return String.join(",", roles);
+        return String.join(",", getRoles());
     }
 
     @Override
@@ -248,22 +265,27 @@ public abstract class ContentNodeImpl implements ContentNode {
 
     @Override
     public List<String> getRoles() {
-        return roles;
+        return null != roles ? roles : Collections.emptyList();
     }
 
     @Override
     public boolean hasRole(String role) {
-        return roles.contains(role);
+        return null != roles && roles.contains(role);
     }
 
     @Override
     public void addRole(String role) {
+        if (null == roles) {
+            roles = new ArrayList<>();
+        }
         roles.add(role);
     }
 
     @Override
     public void removeRole(String role) {
-        roles.remove(role);
+        if (null != roles) {
+            roles.remove(role);
+        }
     }
 
     @Override
@@ -5,7 +5,6 @@ import org.asciidoctor.ast.ListItem;
 import org.asciidoctor.ast.StructuralNode;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,7 +26,7 @@ public class DescriptionListEntryImpl extends StructuralNodeImpl implements Desc
     }
 
     public DescriptionListEntryImpl(StructuralNode parent, Object content, List<ListItem> terms, ListItem description) {
-        this(parent, new HashMap<>(), new ArrayList<>(), content, new ArrayList<>(), "", new ArrayList<>(), terms, description);
+        this(parent, null, null, content, null, "", null, terms, description);
     }
 
     public DescriptionListEntryImpl(StructuralNode parent, Map<String, Object> attributes, List<String> roles,
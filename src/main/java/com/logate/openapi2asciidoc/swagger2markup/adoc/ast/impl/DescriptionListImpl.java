@@ -5,7 +5,6 @@ import org.asciidoctor.ast.DescriptionListEntry;
 import org.asciidoctor.ast.StructuralNode;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -23,7 +22,7 @@ public class DescriptionListImpl extends StructuralNodeImpl implements Descripti
     }
 
     public DescriptionListImpl(StructuralNode parent, Object content, List<DescriptionListEntry> items) {
-        this(parent, new HashMap<>(), new ArrayList<>(), content, new ArrayList<>(), "", new ArrayList<>(), items);
+        this(parent, null, null, content, null, "", null, items);
     }
 
     public DescriptionListImpl(StructuralNode parent, Map<String, Object> attributes, List<String> roles,
@@ -2,8 +2,6 @@ package com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl;
 
 import org.asciidoctor.ast.*;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,7 +16,7 @@ public class DocumentImpl extends StructuralNodeImpl implements Document {
     }
 
     public DocumentImpl(StructuralNode parent, String context, Object content) {
-        this(parent, context, new HashMap<>(), new ArrayList<>(), content, new ArrayList<>(), "", new ArrayList<>());
+        this(parent, context, null, null, content, null, "", null);
     }
 
     public DocumentImpl(StructuralNode parent, String context, Map<String, Object> attributes, List<String> roles,
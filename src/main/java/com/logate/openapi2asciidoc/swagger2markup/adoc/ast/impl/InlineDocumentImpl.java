@@ -0,0 +1,57 @@
+package com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl;
+
+import org.asciidoctor.ast.Block;
+import org.asciidoctor.ast.StructuralNode;
+
+import java.util.List;
+
+/**
+ * Document holding a single paragraph of inline text, which is all most table cells contain. The paragraph node is
+ * only created once the blocks of the document are read or extended, until then the converter writes the text
+ * directly.
+ */
+public class InlineDocumentImpl extends DocumentImpl {
+
+    private final String text;
+    private boolean expanded;
+
+    public InlineDocumentImpl(StructuralNode parent, String text) {
+        super(parent);
+        this.text = text;
+    }
+
+    /**
+     * Returns whether the paragraph node has been created, so that the document has to be converted block by block.
+     */
+    public boolean isExpanded() {
+        return expanded;
+    }
+
+    /**
+     * Returns the paragraph text the same way the paragraph node would return it as source.
+     */
+    public String getText() {
+        return String.join("\n", text.split("\n"));
+    }
+
+    @Override
+    public List<StructuralNode> getBlocks() {
+        expand();
+        return super.getBlocks();
+    }
+
+    @Override
+    public void append(StructuralNode block) {
+        expand();
+        super.append(block);
+    }
+
+    private void expand() {
+        if (!expanded) {
+            expanded = true;
+            Block paragraph = new ParagraphBlockImpl(this);
+            paragraph.setSource(text);
+            super.append(paragraph);
+        }
+    }
+}
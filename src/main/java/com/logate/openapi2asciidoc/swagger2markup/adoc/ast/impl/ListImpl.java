@@ -4,7 +4,6 @@ import org.asciidoctor.ast.List;
 import org.asciidoctor.ast.StructuralNode;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 
 public class ListImpl extends StructuralNodeImpl implements List {
@@ -21,7 +20,7 @@ public class ListImpl extends StructuralNodeImpl implements List {
     }
 
     public ListImpl(StructuralNode parent, String context, Object content, java.util.List<StructuralNode> items) {
-        this(parent, context, new HashMap<>(), new ArrayList<>(), content, new ArrayList<>(), "", new ArrayList<>(), items);
+        this(parent, context, null, null, content, null, "", null, items);
     }
 
     public ListImpl(StructuralNode parent, String context, Map<String, Object> attributes, java.util.List<String> roles,
@@ -4,8 +4,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.asciidoctor.ast.ListItem;
 import org.asciidoctor.ast.StructuralNode;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,7 +17,7 @@ public class ListItemImpl extends StructuralNodeImpl implements ListItem {
     }
 
     public ListItemImpl(StructuralNode parent, String context, Object content, String marker, String text) {
-        this(parent, context, new HashMap<>(), new ArrayList<>(), content, new ArrayList<>(), "", new ArrayList<>(), marker, text);
+        this(parent, context, null, null, content, null, "", null, marker, text);
     }
 
     public ListItemImpl(StructuralNode parent, String context, Map<String, Object> attributes, List<String> roles,
@@ -4,7 +4,7 @@ import com.logate.openapi2asciidoc.swagger2markup.adoc.AsciidocConverter;
 import org.asciidoctor.ast.ContentNode;
 import org.asciidoctor.ast.PhraseNode;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -13,7 +13,6 @@ public class PhraseNodeImpl extends ContentNodeImpl implements PhraseNode {
     private final String type;
     private final String text;
     private final String target;
-    private final AsciidocConverter converter = new AsciidocConverter(AsciidocConverter.NAME, new HashMap<>());
 
     public PhraseNodeImpl(ContentNode parent, String context, Map<String, Object> attributes, List<String> roles, String type, String text, String target) {
         super(parent, context, attributes, roles);
@@ -30,7 +29,7 @@ public class PhraseNodeImpl extends ContentNodeImpl implements PhraseNode {
 
     @Override
     public String convert() {
-        return converter.convert(this, null, new HashMap<>());
+        return AsciidocConverter.INSTANCE.convert(this, null, Collections.emptyMap());
     }
 
     @Override
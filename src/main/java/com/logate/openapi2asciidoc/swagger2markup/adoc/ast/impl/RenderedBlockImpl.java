@@ -0,0 +1,25 @@
+package com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl;
+
+import org.asciidoctor.ast.StructuralNode;
+
+/**
+ * Block standing in for a block that has already been converted, see
+ * {@link com.logate.openapi2asciidoc.swagger2markup.adoc.AsciidocConverter#convertBlock(StructuralNode, boolean)}.
+ * The converter writes its text as it is, so a subtree which shows up in many places only has to be built and
+ * converted once.
+ */
+public class RenderedBlockImpl extends BlockImpl {
+
+    public static final String CONTEXT = "rendered";
+
+    private final String text;
+
+    public RenderedBlockImpl(StructuralNode parent, String text) {
+        super(parent, CONTEXT);
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
@@ -3,8 +3,6 @@ package com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl;
 import org.asciidoctor.ast.Section;
 import org.asciidoctor.ast.StructuralNode;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,7 +16,7 @@ public class SectionImpl extends StructuralNodeImpl implements Section {
     private final boolean numbered;
 
     public SectionImpl(StructuralNode parent) {
-        this(parent, new HashMap<>());
+        this(parent, null);
     }
 
     public SectionImpl(StructuralNode parent, Map<String, Object> attributes) {
@@ -32,8 +30,8 @@ public class SectionImpl extends StructuralNodeImpl implements Section {
 
     public SectionImpl(StructuralNode parent, String context, Object content, Integer index, Integer number, String numeral,
                        String sectionName, boolean special, boolean numbered) {
-        this(parent, context, new HashMap<>(), new ArrayList<>(), content, new ArrayList<>(),
-                "", new ArrayList<>(), index, number, numeral, sectionName, special, numbered);
+        this(parent, context, null, null, content, null,
+                "", null, index, number, numeral, sectionName, special, numbered);
     }
 
     public SectionImpl(StructuralNode parent, String context, Map<String, Object> attributes, List<String> roles,
@@ -4,6 +4,7 @@ import com.logate.openapi2asciidoc.swagger2markup.adoc.AsciidocConverter;
 import org.asciidoctor.ast.Cursor;
 import org.asciidoctor.ast.StructuralNode;
 
+import java.io.IOException;
 import java.util.*;
 
 public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNode {
@@ -12,14 +13,14 @@ public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNod
     private String caption;
     private String style;
     private final Object content;
-    private final List<StructuralNode> blocks;
+    // blocks and subs are created on first write, null stands for empty
+    private List<StructuralNode> blocks;
     private Integer level;
     private final String contentModel;
     private List<String> subs;
-    private final AsciidocConverter converter = new AsciidocConverter(AsciidocConverter.NAME, new HashMap<>());
 
     public StructuralNodeImpl(StructuralNode parent, String context) {
-        this(parent, context, new HashMap<>());
+        this(parent, context, null, null);
     }
 
     public StructuralNodeImpl(StructuralNode parent, String context, Map<String, Object> attributes) {
@@ -27,11 +28,11 @@ public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNod
     }
 
     public StructuralNodeImpl(StructuralNode parent, String context, Object content) {
-        this(parent, context, new HashMap<>(), content);
+        this(parent, context, null, content);
     }
 
     public StructuralNodeImpl(StructuralNode parent, String context, Map<String, Object> attributes, Object content) {
-        this(parent, context, attributes, new ArrayList<>(), content, new ArrayList<>(), "", new ArrayList<>());
+        this(parent, context, attributes, null, content, null, "", null);
     }
 
     public StructuralNodeImpl(StructuralNode parent, String context, Map<String, Object> attributes, List<String> roles,
@@ -88,7 +89,7 @@ public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNod
 
     @Override
     public void setStyle(String style) {
-        this.style = style;
+        this.style = null != style ? style.intern() : null;
     }
 
     @Override
@@ -99,11 +100,14 @@ public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNod
 
     @Override
     public List<StructuralNode> getBlocks() {
-        return blocks;
+        return null != blocks ? blocks : Collections.emptyList();
     }
 
     @Override
     public void append(StructuralNode block) {
+        if (null == blocks) {
+            blocks = new ArrayList<>();
+        }
         blocks.add(block);
     }
 
@@ -120,7 +124,17 @@ public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNod
 
     @Override
     public String convert() {
-        return converter.convert(this, null, new HashMap<>());
+        return AsciidocConverter.INSTANCE.convert(this, null, Collections.emptyMap());
+    }
+
+    /**
+     * Converts this node like {@link #convert()}, but writes the result to the given target as it is produced.
+     *
+     * @param target the target to write to
+     * @throws IOException if writing to the target fails
+     */
+    public void convert(Appendable target) throws IOException {
+        AsciidocConverter.INSTANCE.convert(this, null, target);
     }
 
     @Override
@@ -145,21 +159,26 @@ public class StructuralNodeImpl extends ContentNodeImpl implements StructuralNod
 
     @Override
     public List<String> getSubstitutions() {
-        return subs;
+        return null != subs ? subs : Collections.emptyList();
     }
 
     @Override
     public boolean isSubstitutionEnabled(String substitution) {
-        return subs.contains(substitution);
+        return null != subs && subs.contains(substitution);
     }
 
     @Override
     public void removeSubstitution(String substitution) {
-        subs.remove(substitution);
+        if (null != subs) {
+            subs.remove(substitution);
+        }
     }
 
     @Override
     public void addSubstitution(String substitution) {
+        if (null == subs) {
+            subs = new ArrayList<>();
+        }
         subs.add(substitution);
     }
 
@@ -21,7 +21,7 @@ public class TableImpl extends StructuralNodeImpl implements Table {
     private List<Column> columns = new ArrayList<>();
 
     public TableImpl(StructuralNode parent) {
-        this(parent, new HashMap<>(), new ArrayList<>());
+        this(parent, null, null);
     }
 
     public TableImpl(StructuralNode parent, Map<String, Object> attributes, List<String> roles) {
@@ -29,7 +29,7 @@ public class TableImpl extends StructuralNodeImpl implements Table {
     }
 
     public TableImpl(StructuralNode parent, Map<String, Object> attributes, List<String> roles, Integer level) {
-        this(parent, attributes, roles, null, new ArrayList<>(), level, "", new ArrayList<>());
+        this(parent, attributes, roles, null, null, level, "", null);
     }
 
     public TableImpl(StructuralNode parent, Map<String, Object> attributes, List<String> roles,
@@ -113,13 +113,9 @@ public class TableImpl extends StructuralNodeImpl implements Table {
     }
 
     public RowImpl generateRow(String... documentContents) {
-        Document[] documents = Arrays.stream(documentContents).map(documentContent -> {
-            Document innerDoc = new DocumentImpl();
-            Block paragraph = new ParagraphBlockImpl(innerDoc);
-            paragraph.setSource(documentContent);
-            innerDoc.append(paragraph);
-            return innerDoc;
-        }).toArray(Document[]::new);
+        Document[] documents = Arrays.stream(documentContents)
+                .map(documentContent -> new InlineDocumentImpl(null, documentContent))
+                .toArray(Document[]::new);
         return generateRow(documents);
     }
 
@@ -17,6 +17,10 @@ abstract class NodeAttributes {
     }
 
     public String pop(String... keys) {
+        // nodes without attributes share a read-only empty map
+        if (attributes.isEmpty()) {
+            return "";
+        }
         AtomicReference<String> value = new AtomicReference<>("");
         Stream.of(keys).forEach(key -> {
             try {
@@ -31,6 +35,9 @@ abstract class NodeAttributes {
     }
 
     String pop(String key) {
+        if (attributes.isEmpty()) {
+            return "";
+        }
         try {
             String value = attributes.remove(key).toString();
             if (null == value) {
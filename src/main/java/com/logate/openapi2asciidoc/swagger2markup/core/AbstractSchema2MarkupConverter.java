@@ -93,24 +93,41 @@ public abstract class AbstractSchema2MarkupConverter<T> {
      */
     public abstract String toString();
 
+    /**
+     * The state of a conversion. A context is not changed by the converter, so it can be read by several threads at
+     * once. Settings of a single output run, such as the output path, are fixed when the context is created; a
+     * converter writing to a folder creates a copy of its context for that run.
+     *
+     * @param <T> the type of the specification
+     */
     public abstract static class Context<T> {
         private final Schema2MarkupConfig config;
         private final T schema;
         private final URI swaggerLocation;
         private final Schema2MarkupExtensionRegistry extensionRegistry;
         private final Labels labels;
-        private Path outputPath;
+        private volatile Path outputPath;
 
         public Context(Schema2MarkupConfig config,
                        Schema2MarkupExtensionRegistry extensionRegistry,
                        T schema,
                        URI swaggerLocation,
                        Labels labels) {
+            this(config, extensionRegistry, schema, swaggerLocation, labels, null);
+        }
+
+        public Context(Schema2MarkupConfig config,
+                       Schema2MarkupExtensionRegistry extensionRegistry,
+                       T schema,
+                       URI swaggerLocation,
+                       Labels labels,
+                       Path outputPath) {
             this.config = config;
             this.extensionRegistry = extensionRegistry;
             this.schema = schema;
             this.swaggerLocation = swaggerLocation;
             this.labels = labels;
+            this.outputPath = outputPath;
         }
 
         public Schema2MarkupConfig getConfig() {
@@ -133,10 +150,23 @@ public abstract class AbstractSchema2MarkupConverter<T> {
             return labels;
         }
 
+        /**
+         * Returns the folder the documents are written to.
+         *
+         * @return the output path, or null if the documents are not written to a folder
+         */
         public Path getOutputPath() {
             return outputPath;
         }
 
+        /**
+         * Sets the folder the documents are written to.
+         *
+         * @param outputPath the output path
+         * @deprecated the converter passes a copy of its context with the output path of each run to the documents and
+         * extensions, use the {@code withOutputPath} method of the context to create such a copy
+         */
+        @Deprecated
         public void setOutputPath(Path outputPath) {
             this.outputPath = outputPath;
         }
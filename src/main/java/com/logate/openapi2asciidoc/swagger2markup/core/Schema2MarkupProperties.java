@@ -76,6 +76,10 @@ public class Schema2MarkupProperties {
     public static final String LINE_SEPARATOR = PROPERTIES_PREFIX + ".lineSeparator";
     public static final String PAGE_BREAK_LOCATIONS = PROPERTIES_PREFIX + ".pageBreakLocations";
     public static final String ASCIIDOC_PEGDOWN_TIMEOUT = PROPERTIES_PREFIX + ".asciidoc.pegdown.timeoutMillis";
+    public static final String CONCURRENT_DOCUMENTS_ENABLED = PROPERTIES_PREFIX + ".concurrentDocumentsEnabled";
+    public static final String PARALLEL_OPERATIONS_ENABLED = PROPERTIES_PREFIX + ".parallelOperationsEnabled";
+    public static final String PARALLEL_SCHEMAS_ENABLED = PROPERTIES_PREFIX + ".parallelSchemasEnabled";
+    public static final String MAX_SCHEMA_DEPTH = PROPERTIES_PREFIX + ".maxSchemaDepth";
 
     /**
      * Prefix for Swagger2Markup extension properties
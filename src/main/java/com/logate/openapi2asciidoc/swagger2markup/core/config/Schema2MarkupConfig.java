@@ -360,4 +360,33 @@ public interface Schema2MarkupConfig {
      * @return true or false
      */
     boolean getRequestExamplesHideBasePath();
+
+    /**
+     * Specifies if the overview, paths, definitions and security documents are rendered concurrently.
+     *
+     * @return true if the documents are rendered concurrently
+     */
+    boolean isConcurrentDocumentsEnabled();
+
+    /**
+     * Specifies if the operation sections of the paths document are rendered in parallel.
+     *
+     * @return true if the operation sections are rendered in parallel
+     */
+    boolean isParallelOperationsEnabled();
+
+    /**
+     * Specifies if the schema documents of the components document are rendered in parallel.
+     *
+     * @return true if the schema documents are rendered in parallel
+     */
+    boolean isParallelSchemasEnabled();
+
+    /**
+     * Returns the maximum nesting depth of inline schema property tables. Deeper schemas are rendered as a
+     * reference instead of being expanded.
+     *
+     * @return the maximum schema nesting depth
+     */
+    int getMaxSchemaDepth();
 }
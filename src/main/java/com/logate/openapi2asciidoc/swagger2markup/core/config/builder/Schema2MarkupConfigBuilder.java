@@ -125,6 +125,10 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         Configuration extensionsConfiguration = swagger2markupConfiguration.subset(EXTENSION_PREFIX);
         config.extensionsProperties = new Schema2MarkupProperties(extensionsConfiguration);
         config.asciidocPegdownTimeoutMillis = schema2MarkupProperties.getRequiredInt(ASCIIDOC_PEGDOWN_TIMEOUT);
+        config.concurrentDocumentsEnabled = schema2MarkupProperties.getRequiredBoolean(CONCURRENT_DOCUMENTS_ENABLED);
+        config.parallelOperationsEnabled = schema2MarkupProperties.getRequiredBoolean(PARALLEL_OPERATIONS_ENABLED);
+        config.parallelSchemasEnabled = schema2MarkupProperties.getRequiredBoolean(PARALLEL_SCHEMAS_ENABLED);
+        config.maxSchemaDepth = schema2MarkupProperties.getRequiredInt(MAX_SCHEMA_DEPTH);
     }
 
     /**
@@ -634,6 +638,52 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         return self;
     }
 
+    /**
+     * Render the overview, paths, definitions and security documents concurrently.
+     * The output is identical to the sequential rendering.
+     *
+     * @return this builder
+     */
+    public T withConcurrentDocuments() {
+        config.concurrentDocumentsEnabled = true;
+        return self;
+    }
+
+    /**
+     * Render the operation sections of the paths document in parallel on the common fork-join pool.
+     * The sections are attached in the original path and method order.
+     *
+     * @return this builder
+     */
+    public T withParallelOperations() {
+        config.parallelOperationsEnabled = true;
+        return self;
+    }
+
+    /**
+     * Render the schema documents of the components document in parallel on the common fork-join pool.
+     * The documents are attached in the original schema order.
+     *
+     * @return this builder
+     */
+    public T withParallelSchemas() {
+        config.parallelSchemasEnabled = true;
+        return self;
+    }
+
+    /**
+     * Specifies the maximum nesting depth of inline schema property tables. Deeper schemas are rendered as a
+     * reference instead of being expanded.
+     *
+     * @param maxSchemaDepth the maximum schema nesting depth, at least 0
+     * @return this builder
+     */
+    public T withMaxSchemaDepth(int maxSchemaDepth) {
+        Validate.isTrue(maxSchemaDepth >= 0, "%s must not be negative", "maxSchemaDepth");
+        config.maxSchemaDepth = maxSchemaDepth;
+        return self;
+    }
+
     protected static CompositeConfiguration getCompositeConfiguration(Configuration configuration) {
         CompositeConfiguration compositeConfiguration = new CompositeConfiguration();
         compositeConfiguration.addConfiguration(new SystemConfiguration());
@@ -693,6 +743,10 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         Character listDelimiter;
         boolean listDelimiterEnabled;
         int asciidocPegdownTimeoutMillis;
+        boolean concurrentDocumentsEnabled;
+        boolean parallelOperationsEnabled;
+        boolean parallelSchemasEnabled;
+        int maxSchemaDepth;
 
         List<PageBreakLocations> pageBreakLocations;
 
@@ -933,5 +987,25 @@ public abstract class Schema2MarkupConfigBuilder<T extends Schema2MarkupConfigBu
         public boolean getRequestExamplesHideBasePath() {
             return requestExamplesHideBasePath;
         }
+
+        @Override
+        public boolean isConcurrentDocumentsEnabled() {
+            return concurrentDocumentsEnabled;
+        }
+
+        @Override
+        public boolean isParallelOperationsEnabled() {
+            return parallelOperationsEnabled;
+        }
+
+        @Override
+        public boolean isParallelSchemasEnabled() {
+            return parallelSchemasEnabled;
+        }
+
+        @Override
+        public int getMaxSchemaDepth() {
+            return maxSchemaDepth;
+        }
     }
 }
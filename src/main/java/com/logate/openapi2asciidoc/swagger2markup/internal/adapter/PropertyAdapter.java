@@ -68,7 +68,7 @@ public final class PropertyAdapter {
             case "ref":
                 if (property instanceof RefProperty) {
                     if (logger.isDebugEnabled()) logger.debug("generateExample RefProperty for " + property.getName());
-                    return markupDocBuilder.copy(false).crossReference(((RefProperty) property).getSimpleRef()).toString();
+                    return markupDocBuilder.fragment(fragment -> fragment.crossReference(((RefProperty) property).getSimpleRef()));
                 } else {
                     if (logger.isDebugEnabled()) logger.debug("generateExample for ref not RefProperty");
                 }
@@ -150,7 +150,7 @@ public final class PropertyAdapter {
                 if (arrayType == null)
                     type = new ArrayType(arrayProperty.getTitle(), new ObjectType(null, null)); // FIXME : Workaround for Swagger parser issue with composed models (https://github.com/Swagger2Markup/swagger2markup/issues/150)
                 else
-                    type = new ArrayType(arrayProperty.getTitle(), new PropertyAdapter(items).getType(definitionDocumentResolver));
+                    type = new ArrayType(arrayProperty.getTitle(), arrayType);
             }
         } else if (property instanceof MapProperty) {
             MapProperty mapProperty = (MapProperty) property;
@@ -128,28 +128,27 @@ public class ParameterTableComponent extends MarkupComponent<ParameterTableCompo
     }
 
     private String buildDescriptionForParameter(MarkupDocBuilder markupDocBuilder, ParameterAdapter parameterAdapter) {
-        MarkupDocBuilder descriptionBuilder = copyMarkupDocBuilder(markupDocBuilder);
-        String basicDescription = parameterAdapter.displayDescription(descriptionBuilder);
-        descriptionBuilder.text(basicDescription);
+        String basicDescription = parameterAdapter.displayDescription(markupDocBuilder);
+        return markupDocBuilder.fragment(descriptionBuilder -> {
+            descriptionBuilder.text(basicDescription);
 
-        if (parameterAdapter.getMinItems().isPresent()) {
-            descriptionBuilder.newLine(true).boldText(labels.getLabel(SwaggerLabels.MIN_ITEMS)).text(COLON).text(String.valueOf(parameterAdapter.getMinItems().get()));
-        }
-        if (parameterAdapter.getMaxItems().isPresent()) {
-            descriptionBuilder.newLine().boldText(labels.getLabel(SwaggerLabels.MAX_ITEMS)).text(COLON).text(String.valueOf(parameterAdapter.getMaxItems().get()));
-        }
-        return descriptionBuilder.toString();
+            if (parameterAdapter.getMinItems().isPresent()) {
+                descriptionBuilder.newLine(true).boldText(labels.getLabel(SwaggerLabels.MIN_ITEMS)).text(COLON).text(String.valueOf(parameterAdapter.getMinItems().get()));
+            }
+            if (parameterAdapter.getMaxItems().isPresent()) {
+                descriptionBuilder.newLine().boldText(labels.getLabel(SwaggerLabels.MAX_ITEMS)).text(COLON).text(String.valueOf(parameterAdapter.getMaxItems().get()));
+            }
+        });
     }
 
     private String getParameterNameColumnContent(MarkupDocBuilder markupDocBuilder, ParameterAdapter parameter) {
-        MarkupDocBuilder parameterNameContent = copyMarkupDocBuilder(markupDocBuilder);
-
-        parameterNameContent.boldTextLine(parameter.getName(), true);
-        if (parameter.getRequired())
-            parameterNameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_REQUIRED).toLowerCase());
-        else
-            parameterNameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_OPTIONAL).toLowerCase());
-        return parameterNameContent.toString();
+        return markupDocBuilder.fragment(parameterNameContent -> {
+            parameterNameContent.boldTextLine(parameter.getName(), true);
+            if (parameter.getRequired())
+                parameterNameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_REQUIRED).toLowerCase());
+            else
+                parameterNameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_OPTIONAL).toLowerCase());
+        });
     }
 
     /**
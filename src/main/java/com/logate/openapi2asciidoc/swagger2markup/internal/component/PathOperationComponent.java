@@ -16,9 +16,9 @@
 package com.logate.openapi2asciidoc.swagger2markup.internal.component;
 
 
-import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.logate.openapi2asciidoc.swagger2markup.Swagger2MarkupConverter;
 import com.logate.openapi2asciidoc.swagger2markup.SwaggerLabels;
 import com.logate.openapi2asciidoc.swagger2markup.core.GroupBy;
@@ -26,6 +26,7 @@ import com.logate.openapi2asciidoc.swagger2markup.core.PageBreakLocations;
 import com.logate.openapi2asciidoc.swagger2markup.internal.resolver.DocumentResolver;
 import com.logate.openapi2asciidoc.swagger2markup.internal.type.ObjectType;
 import com.logate.openapi2asciidoc.swagger2markup.internal.utils.ExamplesUtil;
+import com.logate.openapi2asciidoc.swagger2markup.internal.utils.XmlUtils;
 import com.logate.openapi2asciidoc.swagger2markup.internal.utils.pathexamples.BasicPathExample;
 import com.logate.openapi2asciidoc.swagger2markup.internal.utils.pathexamples.CurlPathExample;
 import com.logate.openapi2asciidoc.swagger2markup.internal.utils.pathexamples.InvokeWebRequestPathExample;
@@ -54,6 +55,9 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 public class PathOperationComponent extends MarkupComponent<PathOperationComponent.Parameters> {
 
+    // writers are immutable and thread-safe, the one of Json.pretty() is created anew on every call
+    private static final ObjectWriter PRETTY_JSON_WRITER = Json.mapper().writer(new DefaultPrettyPrinter());
+
     private final DocumentResolver definitionDocumentResolver;
     private final Map<String, Model> definitions;
     private final PropertiesTableComponent propertiesTableComponent;
@@ -368,7 +372,7 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
         }
 
         Map<String, Object> generatedRequestExampleMap = ExamplesUtil.generateRequestExampleMap(pathGenerator, definitions, markupDocBuilder);
-        Map<String, Object> generatedResponseExampleMap = ExamplesUtil.generateResponseExampleMap(config.isGeneratedExamplesEnabled(), operation, definitions, definitionDocumentResolver, markupDocBuilder);
+        Map<String, Object> generatedResponseExampleMap = ExamplesUtil.generateResponseExampleMap(config.isGeneratedExamplesEnabled(), operation, definitions, definitionDocumentResolver, markupDocBuilder, context.getExampleCache());
 
         boolean beforeExampleRequestBreak = locations.contains(PageBreakLocations.BEFORE_OPERATION_EXAMPLE_REQUEST);
         boolean afterExampleRequestBreak = locations.contains(PageBreakLocations.AFTER_OPERATION_EXAMPLE_REQUEST);
@@ -395,31 +399,17 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
 
                     if (!fieldsIterator.hasNext()) {
                         // rootNode contains a single example, no need to further iterate.
-                        String example = Json.pretty(rootNode);
-//                        String example = Json.pretty(stripExampleQuotes(rootNode.toString()));
-//                        example = Json.pretty(example);
-                        markupDocBuilder.listingBlock(example, "json");
+                        markupDocBuilder.listingBlock(prettyJson(rootNode), "json");
                     }
                     while (fieldsIterator.hasNext()) {
                         Entry<String, JsonNode> field = fieldsIterator.next();
 
                         if (field.getKey().equals("application/json") || field.getKey().contains("+json")) {
-                            String example = Json.pretty(field.getValue());
-                            example = stripExampleQuotes(StringEscapeUtils.unescapeJson(example));
-
-                            markupDocBuilder.listingBlock(example, "json");
-
+                            markupDocBuilder.listingBlock(jsonExample(field.getValue()), "json");
                         } else if (field.getKey().equals("application/xml") || field.getKey().contains("+xml")) {
-
-                            String example = stripExampleQuotes(field.getValue().toString());
-                            example = StringEscapeUtils.unescapeJava(example);
-
-                            //TODO: pretty print XML
-
-                            markupDocBuilder.listingBlock(example, "xml");
+                            markupDocBuilder.listingBlock(xmlExample(field.getValue()), "xml");
                         } else {
-                            String example = Json.pretty(entry.getValue());
-                            markupDocBuilder.listingBlock(example, "json");
+                            markupDocBuilder.listingBlock(prettyJson(rootNode), "json");
                             break; // No need to print the same example multiple times
                         }
                     }
@@ -441,27 +431,18 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
 
                         for (Entry<String, String> entryByType : examplesByContentType.entrySet()) {
                             if (entryByType.getKey().equals("application/json")) {
-                                String example = Json.pretty(entryByType.getValue());
-                                example = stripExampleQuotes(StringEscapeUtils.unescapeJson(example));
-
-                                markupDocBuilder.listingBlock(example, "json");
-
+                                markupDocBuilder.listingBlock(jsonExample(parseExample(entryByType.getValue())), "json");
                             } else if (entryByType.getKey().equals("application/xml")) {
-
                                 String example = stripExampleQuotes(entryByType.getValue());
                                 example = StringEscapeUtils.unescapeJava(example);
-
-                                //TODO: pretty print XML
-
-                                markupDocBuilder.listingBlock(example, "xml");
+                                markupDocBuilder.listingBlock(XmlUtils.prettyPrint(example), "xml");
                             } else {
-                                String example = Json.pretty(entry.getValue());
-                                markupDocBuilder.listingBlock(example, "json");
+                                markupDocBuilder.listingBlock(prettyJson(value), "json");
                                 break; // No need to print the same example multiple times
                             }
                         }
                     } else {
-                        markupDocBuilder.listingBlock(Json.pretty(value), "json");
+                        markupDocBuilder.listingBlock(prettyJson(value), "json");
                     }
                 }
             }
@@ -476,28 +457,69 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
      * @return parsed String
      */
     private String stripExampleQuotes(String raw) {
-        return raw
-                .replaceAll("^\"+", "")  // Strip leading quotes
-                .replaceAll("\"+$", ""); // Strip trailing quotes
+        int begin = 0;
+        int end = raw.length();
+        while (begin < end && raw.charAt(begin) == '"') begin++;  // Strip leading quotes
+        while (end > begin && raw.charAt(end - 1) == '"') end--;  // Strip trailing quotes
+        return raw.substring(begin, end);
     }
 
     /**
-     * Parse a JSON array
+     * Converts an example into a JSON tree, without writing and reading it back
      *
-     * @param raw Object containing a JSON string
+     * @param raw the example
      * @return JsonNode[contentType, example]
-     * @throws RuntimeException when the given JSON string cannot be parsed
+     * @throws RuntimeException when the given example cannot be converted
      */
     private JsonNode parseExample(Object raw) throws RuntimeException {
         try {
-            JsonFactory factory = new JsonFactory();
-            ObjectMapper mapper = new ObjectMapper(factory);
-            return mapper.readTree(Json.pretty(raw));
+            return Json.mapper().valueToTree(raw);
         } catch (Exception ex) {
             throw new RuntimeException("Failed to read example", ex);
         }
     }
 
+    /**
+     * Pretty prints an example as JSON
+     *
+     * @param example the example
+     * @return the JSON
+     * @throws RuntimeException when the given example cannot be written
+     */
+    private String prettyJson(Object example) throws RuntimeException {
+        try {
+            return PRETTY_JSON_WRITER.writeValueAsString(example);
+        } catch (Exception ex) {
+            throw new RuntimeException("Failed to write example", ex);
+        }
+    }
+
+    /**
+     * Renders a JSON example. An example given as a string is used as it is, without quoting and unescaping it.
+     *
+     * @param example the example
+     * @return the JSON
+     */
+    private String jsonExample(JsonNode example) {
+        if (example.isTextual()) {
+            return stripExampleQuotes(example.textValue());
+        }
+        return stripExampleQuotes(StringEscapeUtils.unescapeJson(prettyJson(example)));
+    }
+
+    /**
+     * Renders an XML example, which is pretty printed if it is well-formed.
+     *
+     * @param example the example
+     * @return the XML
+     */
+    private String xmlExample(JsonNode example) {
+        String xml = example.isTextual()
+                ? stripExampleQuotes(example.textValue())
+                : StringEscapeUtils.unescapeJava(stripExampleQuotes(example.toString()));
+        return XmlUtils.prettyPrint(xml);
+    }
+
     /**
      * Adds a example title to the document.
      *
@@ -104,16 +104,17 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                 Optional<BigDecimal> optionalMaxValue = propertyAdapter.getMax();
                 boolean exclusiveMax = propertyAdapter.getExclusiveMax();
 
-                MarkupDocBuilder propertyNameContent = copyMarkupDocBuilder(markupDocBuilder);
-                propertyNameContent.boldTextLine(propertyName, true);
-                if (property.getRequired())
-                    propertyNameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_REQUIRED).toLowerCase());
-                else
-                    propertyNameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_OPTIONAL).toLowerCase());
-                if (propertyAdapter.getReadOnly()) {
-                    propertyNameContent.newLine(true);
-                    propertyNameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_READ_ONLY).toLowerCase());
-                }
+                String propertyNameContent = markupDocBuilder.fragment(nameContent -> {
+                    nameContent.boldTextLine(propertyName, true);
+                    if (property.getRequired())
+                        nameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_REQUIRED).toLowerCase());
+                    else
+                        nameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_OPTIONAL).toLowerCase());
+                    if (propertyAdapter.getReadOnly()) {
+                        nameContent.newLine(true);
+                        nameContent.italicText(labels.getLabel(SwaggerLabels.FLAGS_READ_ONLY).toLowerCase());
+                    }
+                });
 
                 MarkupDocBuilder descriptionContent = copyMarkupDocBuilder(markupDocBuilder);
                 String description = markupDescription(MarkupLanguage.valueOf(config.getSchemaMarkupLanguage().name()),
@@ -198,7 +199,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                     }
                 }
 
-                nameColumnBuilder.add(propertyNameContent.toString());
+                nameColumnBuilder.add(propertyNameContent);
                 descriptionColumnBuilder.add(descriptionContent.toString());
                 schemaColumnBuilder.add(propertyType.displaySchema(markupDocBuilder));
             });
@@ -18,6 +18,7 @@ package com.logate.openapi2asciidoc.swagger2markup.internal.resolver;
 
 import com.logate.openapi2asciidoc.swagger2markup.Swagger2MarkupConfig;
 import com.logate.openapi2asciidoc.swagger2markup.Swagger2MarkupConverter;
+import com.logate.openapi2asciidoc.swagger2markup.internal.utils.TypeCache;
 import com.logate.openapi2asciidoc.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.vavr.Function1;
 
@@ -29,10 +30,21 @@ public abstract class DocumentResolver implements Function1<String, String> {
     Swagger2MarkupConverter.Context<?> context;
     MarkupDocBuilder markupDocBuilder;
     Swagger2MarkupConfig config;
+    private final TypeCache typeCache = new TypeCache();
 
     public DocumentResolver(Swagger2MarkupConverter.SwaggerContext context) {
         this.context = context;
         this.markupDocBuilder = context.createMarkupDocBuilder();
         this.config = context.getConfig();
     }
+
+    /**
+     * Returns the types of the definitions resolved with this resolver. The types depend on the resolver, since
+     * references point to the documents it returns.
+     *
+     * @return the type cache
+     */
+    public TypeCache getTypeCache() {
+        return typeCache;
+    }
 }
\ No newline at end of file
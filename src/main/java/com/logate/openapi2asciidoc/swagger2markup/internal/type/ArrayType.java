@@ -47,6 +47,11 @@ public class ArrayType extends Type {
             return String.format("< %s > array", ofTypeDisplay);
     }
 
+    @Override
+    public ArrayType copy() {
+        return copyNamesTo(new ArrayType(name, ofType == null ? null : ofType.copy(), collectionFormat));
+    }
+
     public String getCollectionFormat() {
         return collectionFormat;
     }
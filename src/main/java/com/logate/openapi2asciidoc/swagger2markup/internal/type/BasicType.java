@@ -51,6 +51,11 @@ public class BasicType extends Type {
             return this.type;
     }
 
+    @Override
+    public BasicType copy() {
+        return copyNamesTo(new BasicType(type, name, format));
+    }
+
     public String getType() {
         return type;
     }
@@ -39,6 +39,11 @@ public class EnumType extends Type {
         return String.format("enum (%s)", join(values, ", "));
     }
 
+    @Override
+    public EnumType copy() {
+        return copyNamesTo(new EnumType(name, values));
+    }
+
     public List<String> getValues() {
         return values;
     }
@@ -38,6 +38,11 @@ public class MapType extends Type {
         return valueType == null ? "object" : String.format("< %s, %s > map", keyTypeDisplay, valueType.displaySchema(docBuilder));
     }
 
+    @Override
+    public MapType copy() {
+        return copyNamesTo(new MapType(name, valueType == null ? null : valueType.copy()));
+    }
+
     public Type getKeyType() {
         return keyType;
     }
@@ -44,6 +44,11 @@ public class ObjectType extends Type {
         return "object";
     }
 
+    @Override
+    public ObjectType copy() {
+        return copyNamesTo(new ObjectType(name, polymorphism, properties));
+    }
+
     public ObjectTypePolymorphism getPolymorphism() {
         return polymorphism;
     }
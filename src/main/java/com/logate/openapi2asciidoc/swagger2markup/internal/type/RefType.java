@@ -38,7 +38,12 @@ public class RefType extends Type {
 
     @Override
     public String displaySchema(MarkupDocBuilder docBuilder) {
-        return docBuilder.copy(false).crossReference(getDocument(), refType.getUniqueName(), refType.getName()).toString();
+        return docBuilder.fragment(fragment -> fragment.crossReference(getDocument(), refType.getUniqueName(), refType.getName()));
+    }
+
+    @Override
+    public RefType copy() {
+        return copyNamesTo(new RefType(document, refType == null ? null : refType.copy()));
     }
 
     public String getDocument() {
@@ -52,4 +52,19 @@ public abstract class Type {
     }
 
     public abstract String displaySchema(MarkupDocBuilder docBuilder);
+
+    /**
+     * Copies this type and the types it is made of, so that the copy can be changed, e.g. by inlining, without
+     * changing this type. Properties, values and polymorphism are shared, since they are not changed once the type is
+     * created.
+     *
+     * @return the copy
+     */
+    public abstract Type copy();
+
+    <T extends Type> T copyNamesTo(T copy) {
+        copy.setName(name);
+        copy.setUniqueName(uniqueName);
+        return copy;
+    }
 }
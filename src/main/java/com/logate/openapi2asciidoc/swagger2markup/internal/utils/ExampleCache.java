@@ -0,0 +1,100 @@
+package com.logate.openapi2asciidoc.swagger2markup.internal.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Examples generated for referenced models during a single conversion, so that a model used by many operations is
+ * only synthesized once. How deep an example is expanded depends on how often each model is already being expanded
+ * around it, so examples are keyed by the model name and the recursion counts of the enclosing models.
+ * <p>
+ * Cached examples are immutable, maps and arrays are replaced by unmodifiable maps and lists, so they can be shared by
+ * all operations and threads.
+ */
+public class ExampleCache {
+
+    private final ConcurrentMap<Key, Object> examples = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the key of an example.
+     *
+     * @param simpleRef the name of the referenced model
+     * @param refStack  the recursion counts of the models being expanded
+     * @return the key
+     */
+    Key key(String simpleRef, Map<String, Integer> refStack) {
+        Map<String, Integer> recursions = new TreeMap<>();
+        refStack.forEach((ref, count) -> {
+            if (count > 0) {
+                recursions.put(ref, count);
+            }
+        });
+        return new Key(simpleRef, recursions);
+    }
+
+    /**
+     * @param key the key
+     * @return the example, or null if it has not been generated yet
+     */
+    Object get(Key key) {
+        return examples.get(key);
+    }
+
+    /**
+     * Stores an example, unless another thread has been faster.
+     *
+     * @param key     the key
+     * @param example the example
+     * @return the immutable example which is cached now
+     */
+    Object put(Key key, Object example) {
+        Object frozen = freeze(example);
+        Object previous = examples.putIfAbsent(key, frozen);
+        return null != previous ? previous : frozen;
+    }
+
+    private static Object freeze(Object example) {
+        if (example instanceof Map) {
+            Map<Object, Object> frozen = new LinkedHashMap<>();
+            ((Map<?, ?>) example).forEach((key, value) -> frozen.put(key, freeze(value)));
+            return Collections.unmodifiableMap(frozen);
+        } else if (example instanceof Object[]) {
+            Object[] frozen = Arrays.stream((Object[]) example).map(ExampleCache::freeze).toArray();
+            return Collections.unmodifiableList(Arrays.asList(frozen));
+        } else if (example instanceof List) {
+            Object[] frozen = ((List<?>) example).stream().map(ExampleCache::freeze).toArray();
+            return Collections.unmodifiableList(Arrays.asList(frozen));
+        }
+        return example;
+    }
+
+    static final class Key {
+        private final String simpleRef;
+        private final Map<String, Integer> recursions;
+
+        private Key(String simpleRef, Map<String, Integer> recursions) {
+            this.simpleRef = simpleRef;
+            this.recursions = recursions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return simpleRef.equals(key.simpleRef) && recursions.equals(key.recursions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(simpleRef, recursions);
+        }
+    }
+}
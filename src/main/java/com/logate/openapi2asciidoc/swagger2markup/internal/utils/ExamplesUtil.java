@@ -48,9 +48,10 @@ public class ExamplesUtil {
      * @param operation                  the Swagger Operation
      * @param definitions                the map of definitions
      * @param markupDocBuilder           the markup builder
+     * @param exampleCache               the examples of referenced models generated so far
      * @return map containing response examples.
      */
-    public static Map<String, Object> generateResponseExampleMap(boolean generateMissingExamples, SwaggerPathOperation operation, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder) {
+    public static Map<String, Object> generateResponseExampleMap(boolean generateMissingExamples, SwaggerPathOperation operation, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, ExampleCache exampleCache) {
         Map<String, Object> examples = new LinkedHashMap<>();
         Map<String, Response> responses = operation.getOperation().getResponses();
         if (responses != null)
@@ -66,13 +67,13 @@ public class ExamplesUtil {
 
                             if (example == null && schema instanceof RefProperty) {
                                 String simpleRef = ((RefProperty) schema).getSimpleRef();
-                                example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                                example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, new HashMap<>());
                             }
                             if (example == null && schema instanceof ArrayProperty && generateMissingExamples) {
-                                example = generateExampleForArrayProperty((ArrayProperty) schema, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                                example = generateExampleForArrayProperty((ArrayProperty) schema, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, new HashMap<>());
                             }
                             if (example == null && schema instanceof ObjectProperty && generateMissingExamples) {
-                                example = exampleMapForProperties(((ObjectProperty) schema).getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                                example = exampleMapForProperties(((ObjectProperty) schema).getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, new HashMap<>());
                             }
                             if (example == null && generateMissingExamples) {
                                 example = PropertyAdapter.generateExample(schema, markupDocBuilder);
@@ -104,6 +105,7 @@ public class ExamplesUtil {
             MarkupDocBuilder markupDocBuilder) {
         boolean generateMissingExamples = requestPathGenerator.getContext().getConfig().isGeneratedExamplesEnabled();
         DocumentResolver definitionDocumentResolver = requestPathGenerator.getDefinitionDocumentResolver();
+        ExampleCache exampleCache = requestPathGenerator.getContext().getExampleCache();
 
         Operation operation = requestPathGenerator.getOperation().getOperation();
         List<Parameter> parameters = operation.getParameters();
@@ -122,7 +124,7 @@ public class ExamplesUtil {
                     Model schema = ((BodyParameter) parameter).getSchema();
                     if (schema instanceof RefModel) {
                         String simpleRef = ((RefModel) schema).getSimpleRef();
-                        example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                        example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, new HashMap<>());
                     } else if (generateMissingExamples) {
                         if (schema instanceof ComposedModel) {
                             ObjectType objectType = (ObjectType) ModelUtils.getType(schema, definitions, definitionDocumentResolver);
@@ -132,15 +134,16 @@ public class ExamplesUtil {
                                         definitions,
                                         definitionDocumentResolver,
                                         markupDocBuilder,
+                                        exampleCache,
                                         new HashMap<>()
                                 );
                             }
                         } else if (schema instanceof ArrayModel) {
-                            example = generateExampleForArrayModel((ArrayModel) schema, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                            example = generateExampleForArrayModel((ArrayModel) schema, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, new HashMap<>());
                         } else {
                             example = schema.getExample();
                             if (example == null) {
-                                example = exampleMapForProperties(schema.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                                example = exampleMapForProperties(schema.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, new HashMap<>());
                             }
                         }
                     }
@@ -182,7 +185,7 @@ public class ExamplesUtil {
                 }
             } else if (parameter instanceof RefParameter) {
                 String simpleRef = ((RefParameter) parameter).getSimpleRef();
-                example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
+                example = generateExampleForRefModel(generateMissingExamples, simpleRef, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, new HashMap<>());
             }
 
             if (example != null)
@@ -228,36 +231,47 @@ public class ExamplesUtil {
      * @param simpleRef               the simple reference string
      * @param definitions             the map of definitions
      * @param markupDocBuilder        the markup builder
+     * @param exampleCache            the examples of referenced models generated so far
      * @param refStack                map to detect cyclic references
      * @return returns an Object or Map of examples
      */
-    private static Object generateExampleForRefModel(boolean generateMissingExamples, String simpleRef, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack) {
+    private static Object generateExampleForRefModel(boolean generateMissingExamples, String simpleRef, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, ExampleCache exampleCache, Map<String, Integer> refStack) {
         Model model = definitions.get(simpleRef);
         Object example = null;
         if (model != null) {
             example = model.getExample();
             if (example == null && generateMissingExamples) {
-                if (!refStack.containsKey(simpleRef)) {
-                    refStack.put(simpleRef, 1);
-                } else {
-                    refStack.put(simpleRef, refStack.get(simpleRef) + 1);
-                }
-                if (refStack.get(simpleRef) <= MAX_RECURSION_TO_DISPLAY) {
-                    if (model instanceof ComposedModel) {
-                        //FIXME: getProperties() may throw NullPointerException
-                        example = exampleMapForProperties(((ObjectType) ModelUtils.getType(model, definitions, definitionDocumentResolver)).getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, new HashMap<>());
-                    } else {
-                        example = exampleMapForProperties(model.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, refStack);
-                    }
-                } else {
-                    return "...";
+                ExampleCache.Key key = exampleCache.key(simpleRef, refStack);
+                example = exampleCache.get(key);
+                if (example == null) {
+                    example = exampleCache.put(key, generateExampleForModel(simpleRef, model, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack));
                 }
-                refStack.put(simpleRef, refStack.get(simpleRef) - 1);
             }
         }
         return example;
     }
 
+    /**
+     * Generates an example object for a referenced model without an example. The refStack is left as it was found, so
+     * that the example only depends on the model and the refStack, and can be cached.
+     */
+    private static Object generateExampleForModel(String simpleRef, Model model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, ExampleCache exampleCache, Map<String, Integer> refStack) {
+        refStack.merge(simpleRef, 1, Integer::sum);
+        try {
+            if (refStack.get(simpleRef) > MAX_RECURSION_TO_DISPLAY) {
+                return "...";
+            }
+            if (model instanceof ComposedModel) {
+                //FIXME: getProperties() may throw NullPointerException
+                return exampleMapForProperties(((ObjectType) ModelUtils.getType(model, definitions, definitionDocumentResolver)).getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, new HashMap<>());
+            } else {
+                return exampleMapForProperties(model.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack);
+            }
+        } finally {
+            refStack.merge(simpleRef, -1, Integer::sum);
+        }
+    }
+
     private static Map<String, Property> getPropertiesForComposedModel(ComposedModel model, Map<String, Model> definitions) {
         //TODO: Unused method, make sure this is never used and then remove it.
         Map<String, Property> combinedProperties;
@@ -291,19 +305,20 @@ public class ExamplesUtil {
      * @param properties       the map of properties
      * @param definitions      the map of definitions
      * @param markupDocBuilder the markup builder
+     * @param exampleCache     the examples of referenced models generated so far
      * @param refStack         map to detect cyclic references
      * @return a Map of examples
      */
-    private static Map<String, Object> exampleMapForProperties(Map<String, Property> properties, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack) {
+    private static Map<String, Object> exampleMapForProperties(Map<String, Property> properties, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, ExampleCache exampleCache, Map<String, Integer> refStack) {
         Map<String, Object> exampleMap = new LinkedHashMap<>();
         if (properties != null) {
             for (Map.Entry<String, Property> property : properties.entrySet()) {
                 Object exampleObject = property.getValue().getExample();
                 if (exampleObject == null) {
                     if (property.getValue() instanceof RefProperty) {
-                        exampleObject = generateExampleForRefModel(true, ((RefProperty) property.getValue()).getSimpleRef(), definitions, definitionDocumentResolver, markupDocBuilder, refStack);
+                        exampleObject = generateExampleForRefModel(true, ((RefProperty) property.getValue()).getSimpleRef(), definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack);
                     } else if (property.getValue() instanceof ArrayProperty) {
-                        exampleObject = generateExampleForArrayProperty((ArrayProperty) property.getValue(), definitions, definitionDocumentResolver, markupDocBuilder, refStack);
+                        exampleObject = generateExampleForArrayProperty((ArrayProperty) property.getValue(), definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack);
                     } else if (property.getValue() instanceof MapProperty) {
                         exampleObject = generateExampleForMapProperty((MapProperty) property.getValue(), markupDocBuilder);
                     }
@@ -331,14 +346,14 @@ public class ExamplesUtil {
         return exampleMap;
     }
 
-    private static Object generateExampleForArrayModel(ArrayModel model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack) {
+    private static Object generateExampleForArrayModel(ArrayModel model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, ExampleCache exampleCache, Map<String, Integer> refStack) {
         if (model.getExample() != null) {
             return model.getExample();
         } else if (model.getProperties() != null) {
-            return new Object[]{exampleMapForProperties(model.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, refStack)};
+            return new Object[]{exampleMapForProperties(model.getProperties(), definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack)};
         } else {
             Property itemProperty = model.getItems();
-            return getExample(itemProperty, definitions, definitionDocumentResolver, markupDocBuilder, refStack);
+            return getExample(itemProperty, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack);
         }
     }
 
@@ -350,9 +365,9 @@ public class ExamplesUtil {
      * @param markupDocBuilder the markup builder
      * @return array of Object
      */
-    private static Object[] generateExampleForArrayProperty(ArrayProperty value, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, Map<String, Integer> refStack) {
+    private static Object[] generateExampleForArrayProperty(ArrayProperty value, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, MarkupDocBuilder markupDocBuilder, ExampleCache exampleCache, Map<String, Integer> refStack) {
         Property property = value.getItems();
-        return getExample(property, definitions, definitionDocumentResolver, markupDocBuilder, refStack);
+        return getExample(property, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack);
     }
 
     /**
@@ -362,6 +377,7 @@ public class ExamplesUtil {
      * @param definitions                map of definitions
      * @param definitionDocumentResolver DocumentResolver
      * @param markupDocBuilder           the markup builder
+     * @param exampleCache               the examples of referenced models generated so far
      * @param refStack                   reference stack
      * @return array of Object
      */
@@ -370,13 +386,14 @@ public class ExamplesUtil {
             Map<String, Model> definitions,
             DocumentResolver definitionDocumentResolver,
             MarkupDocBuilder markupDocBuilder,
+            ExampleCache exampleCache,
             Map<String, Integer> refStack) {
         if (property.getExample() != null) {
             return new Object[]{property.getExample()};
         } else if (property instanceof ArrayProperty) {
-            return new Object[]{generateExampleForArrayProperty((ArrayProperty) property, definitions, definitionDocumentResolver, markupDocBuilder, refStack)};
+            return new Object[]{generateExampleForArrayProperty((ArrayProperty) property, definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack)};
         } else if (property instanceof RefProperty) {
-            return new Object[]{generateExampleForRefModel(true, ((RefProperty) property).getSimpleRef(), definitions, definitionDocumentResolver, markupDocBuilder, refStack)};
+            return new Object[]{generateExampleForRefModel(true, ((RefProperty) property).getSimpleRef(), definitions, definitionDocumentResolver, markupDocBuilder, exampleCache, refStack)};
         } else {
             return new Object[]{PropertyAdapter.generateExample(property, markupDocBuilder)};
         }
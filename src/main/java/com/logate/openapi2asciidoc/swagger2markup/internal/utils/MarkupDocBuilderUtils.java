@@ -31,7 +31,7 @@ public class MarkupDocBuilderUtils {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).literalText(escapeText(text)).toString();
+        return markupDocBuilder.fragment(fragment -> fragment.literalText(escapeText(text)));
     }
 
     private static String escapeText(String text) {
@@ -45,25 +45,25 @@ public class MarkupDocBuilderUtils {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).boldText(escapeText(text)).toString();
+        return markupDocBuilder.fragment(fragment -> fragment.boldText(escapeText(text)));
     }
 
     public static String italicText(MarkupDocBuilder markupDocBuilder, String text) {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).italicText(escapeText(text)).toString();
+        return markupDocBuilder.fragment(fragment -> fragment.italicText(escapeText(text)));
     }
 
     public static String crossReference(MarkupDocBuilder markupDocBuilder, String document, String anchor, String text) {
-        return copyMarkupDocBuilder(markupDocBuilder)
-                .crossReference(document, anchor, text).toString();
+        return markupDocBuilder.fragment(fragment -> fragment.crossReference(document, anchor, text));
     }
 
     public static String markupDescription(MarkupLanguage swaggerMarkupLanguage, MarkupDocBuilder markupDocBuilder, String markupText) {
         if (StringUtils.isBlank(markupText)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).importMarkup(new StringReader(markupText), swaggerMarkupLanguage).toString().trim();
+        return markupDocBuilder.fragment(fragment -> fragment.importMarkup(new StringReader(markupText), swaggerMarkupLanguage))
+                .trim();
     }
 }
@@ -15,7 +15,6 @@
  */
 package com.logate.openapi2asciidoc.swagger2markup.internal.utils;
 
-import com.google.common.collect.ImmutableMap;
 import com.logate.openapi2asciidoc.swagger2markup.internal.adapter.PropertyAdapter;
 import com.logate.openapi2asciidoc.swagger2markup.internal.resolver.DocumentResolver;
 import com.logate.openapi2asciidoc.swagger2markup.internal.type.*;
@@ -24,8 +23,11 @@ import io.swagger.models.properties.Property;
 import io.swagger.models.refs.RefFormat;
 import org.apache.commons.lang3.Validate;
 
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -48,7 +50,9 @@ public final class ModelUtils {
     }
 
     /**
-     * Retrieves the type of a model, or otherwise null
+     * Retrieves the type of a model, or otherwise null. The types of referenced definitions are taken from the
+     * {@link TypeCache} of the definition document resolver. A definition which references itself, e.g. through an
+     * {@code allOf} chain, is resolved as an unresolved reference where it shows up again.
      *
      * @param definitions                a map of RefModel name keys to models
      * @param model                      the model
@@ -56,6 +60,10 @@ public final class ModelUtils {
      * @return the type of the model, or otherwise null
      */
     public static Type getType(Model model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver) {
+        return getType(model, definitions, definitionDocumentResolver, new Resolution());
+    }
+
+    private static Type getType(Model model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver, Resolution resolution) {
         Validate.notNull(model, "model must not be null!");
         if (model instanceof ModelImpl) {
             ModelImpl modelImpl = (ModelImpl) model;
@@ -86,7 +94,7 @@ public final class ModelUtils {
                 polymorphism.setNature(ObjectTypePolymorphism.Nature.COMPOSITION);
 
                 for (Model innerModel : composedModel.getAllOf()) {
-                    Type innerModelType = resolveRefType(getType(innerModel, definitions, definitionDocumentResolver));
+                    Type innerModelType = resolveRefType(getType(innerModel, definitions, definitionDocumentResolver, resolution));
 
                     if (innerModelType != null) {
                         name = innerModelType.getName();
@@ -102,7 +110,7 @@ public final class ModelUtils {
 
                         Map<String, Property> innerModelProperties = ((ObjectType) innerModelType).getProperties();
                         if (innerModelProperties != null)
-                            allProperties.putAll(ImmutableMap.copyOf(innerModelProperties));
+                            allProperties.putAll(innerModelProperties);
                     }
                 }
             }
@@ -112,14 +120,30 @@ public final class ModelUtils {
             RefModel refModel = (RefModel) model;
             String refName = refModel.getRefFormat().equals(RefFormat.INTERNAL) ? refModel.getSimpleRef() : refModel.getReference();
 
-            Type refType = new ObjectType(refName, null);
-            if (definitions.containsKey(refName)) {
-                refType = getType(definitions.get(refName), definitions, definitionDocumentResolver);
-                refType.setName(refName);
-                refType.setUniqueName(refName);
+            if (!definitions.containsKey(refName))
+                return new RefType(definitionDocumentResolver.apply(refName), new ObjectType(refName, null));
+
+            TypeCache typeCache = definitionDocumentResolver.getTypeCache();
+            Type cachedType = typeCache.get(refName);
+            if (cachedType != null)
+                return cachedType;
+
+            if (!resolution.resolving.add(refName)) {
+                // every definition being resolved depends on where this cycle was entered
+                resolution.cutShort.addAll(resolution.resolving);
+                return new RefType(definitionDocumentResolver.apply(refName), new ObjectType(refName, null));
+            }
+            Type refType;
+            try {
+                refType = getType(definitions.get(refName), definitions, definitionDocumentResolver, resolution);
+            } finally {
+                resolution.resolving.remove(refName);
             }
+            refType.setName(refName);
+            refType.setUniqueName(refName);
 
-            return new RefType(definitionDocumentResolver.apply(refName), refType);
+            RefType type = new RefType(definitionDocumentResolver.apply(refName), refType);
+            return resolution.cutShort.remove(refName) ? type : typeCache.put(refName, type);
         } else if (model instanceof ArrayModel) {
             ArrayModel arrayModel = ((ArrayModel) model);
 
@@ -128,4 +152,12 @@ public final class ModelUtils {
 
         return null;
     }
+
+    /**
+     * The definitions being resolved by a single {@link #getType(Model, Map, DocumentResolver)} call.
+     */
+    private static final class Resolution {
+        private final Set<String> resolving = new LinkedHashSet<>();
+        private final Set<String> cutShort = new HashSet<>();
+    }
 }
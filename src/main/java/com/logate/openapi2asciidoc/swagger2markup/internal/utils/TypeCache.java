@@ -0,0 +1,40 @@
+package com.logate.openapi2asciidoc.swagger2markup.internal.utils;
+
+import com.logate.openapi2asciidoc.swagger2markup.internal.type.Type;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Types of the referenced definitions resolved by a single {@link com.logate.openapi2asciidoc.swagger2markup.internal.resolver.DocumentResolver},
+ * so that the type graph of a definition, e.g. a long {@code allOf} chain, is only resolved once per document.
+ * <p>
+ * Types are changed by the components using them, e.g. when inline types are named, so only copies are handed out.
+ * Types resolved while a recursive reference was cut short depend on where the resolution started and must not be
+ * stored.
+ */
+public class TypeCache {
+
+    private final ConcurrentMap<String, Type> types = new ConcurrentHashMap<>();
+
+    /**
+     * @param refName the name of the definition
+     * @return a copy of the type of the definition, or null if it has not been resolved yet
+     */
+    Type get(String refName) {
+        Type type = types.get(refName);
+        return type != null ? type.copy() : null;
+    }
+
+    /**
+     * Stores the type of a definition, unless another thread has been faster.
+     *
+     * @param refName the name of the definition
+     * @param type    the type of the definition
+     * @return a copy of the type which is cached now
+     */
+    Type put(String refName, Type type) {
+        Type previous = types.putIfAbsent(refName, type);
+        return (previous != null ? previous : type).copy();
+    }
+}
@@ -0,0 +1,187 @@
+package com.logate.openapi2asciidoc.swagger2markup.internal.utils;
+
+import org.apache.commons.lang3.StringUtils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+
+public class XmlUtils {
+
+    private static final String INDENT = "  ";
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Pretty prints an XML document with a streaming reader, so that no DOM is built. Elements are indented by two
+     * spaces, text is trimmed and kept on the line of its element.
+     *
+     * @param xml the XML document
+     * @return the pretty printed document, or the given text if it is not well-formed XML
+     */
+    public static String prettyPrint(String xml) {
+        if (StringUtils.isBlank(xml)) {
+            return xml;
+        }
+        try {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+            try {
+                return prettyPrint(reader, xml.length());
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            return xml;
+        }
+    }
+
+    private static String prettyPrint(XMLStreamReader reader, int capacity) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder(capacity + capacity / 2);
+        if (reader.getVersion() != null) {
+            sb.append("<?xml version=\"").append(reader.getVersion()).append('"');
+            if (reader.getCharacterEncodingScheme() != null) {
+                sb.append(" encoding=\"").append(reader.getCharacterEncodingScheme()).append('"');
+            }
+            if (reader.standaloneSet()) {
+                sb.append(" standalone=\"").append(reader.isStandalone() ? "yes" : "no").append('"');
+            }
+            sb.append("?>");
+        }
+        int depth = 0;
+        // a start tag is only closed once it is known whether the element is empty
+        boolean startTagOpen = false;
+        boolean afterStartTag = false;
+        boolean textOnLine = false;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (startTagOpen && event != XMLStreamConstants.END_ELEMENT) {
+                sb.append('>');
+                startTagOpen = false;
+            }
+            boolean inline = afterStartTag || textOnLine;
+            afterStartTag = event == XMLStreamConstants.START_ELEMENT;
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    newLine(sb, depth);
+                    sb.append('<').append(qualifiedName(reader.getPrefix(), reader.getLocalName()));
+                    for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                        String prefix = reader.getNamespacePrefix(i);
+                        sb.append(' ').append(StringUtils.isEmpty(prefix) ? "xmlns" : "xmlns:" + prefix).append("=\"");
+                        escape(sb, reader.getNamespaceURI(i), true);
+                        sb.append('"');
+                    }
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        sb.append(' ').append(qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)))
+                                .append("=\"");
+                        escape(sb, reader.getAttributeValue(i), true);
+                        sb.append('"');
+                    }
+                    depth++;
+                    startTagOpen = true;
+                    textOnLine = false;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    if (startTagOpen) {
+                        sb.append("/>");
+                        startTagOpen = false;
+                    } else {
+                        if (!textOnLine) {
+                            newLine(sb, depth);
+                        }
+                        sb.append("</").append(qualifiedName(reader.getPrefix(), reader.getLocalName())).append('>');
+                    }
+                    textOnLine = false;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    if (!reader.isWhiteSpace()) {
+                        if (!inline) {
+                            newLine(sb, depth);
+                        }
+                        escape(sb, reader.getText().trim(), false);
+                        textOnLine = true;
+                    }
+                    break;
+                case XMLStreamConstants.CDATA:
+                    if (!inline) {
+                        newLine(sb, depth);
+                    }
+                    sb.append("<![CDATA[").append(reader.getText()).append("]]>");
+                    textOnLine = true;
+                    break;
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    if (!inline) {
+                        newLine(sb, depth);
+                    }
+                    sb.append('&').append(reader.getLocalName()).append(';');
+                    textOnLine = true;
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    newLine(sb, depth);
+                    sb.append("<!--").append(reader.getText()).append("-->");
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    newLine(sb, depth);
+                    sb.append("<?").append(reader.getPITarget());
+                    if (StringUtils.isNotEmpty(reader.getPIData())) {
+                        sb.append(' ').append(reader.getPIData());
+                    }
+                    sb.append("?>");
+                    break;
+                case XMLStreamConstants.DTD:
+                    newLine(sb, depth);
+                    sb.append(reader.getText());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void newLine(StringBuilder sb, int depth) {
+        if (sb.length() > 0) {
+            sb.append('\n');
+        }
+        for (int i = 0; i < depth; i++) {
+            sb.append(INDENT);
+        }
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+        return StringUtils.isEmpty(prefix) ? localName : prefix + ":" + localName;
+    }
+
+    private static void escape(StringBuilder sb, String text, boolean attribute) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '"':
+                    sb.append(attribute ? "&quot;" : "\"");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // examples come from the specification, do not resolve anything they point to
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
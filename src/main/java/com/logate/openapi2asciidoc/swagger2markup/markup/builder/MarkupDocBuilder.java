@@ -23,6 +23,7 @@ import java.nio.charset.Charset;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author Robert Winkler
@@ -561,6 +562,21 @@ public interface MarkupDocBuilder {
      */
     MarkupDocBuilder copy(boolean copyBuffer);
 
+    /**
+     * Formats a fragment, e.g. a table cell, with the state of this builder without appending it to the document.<br>
+     * By default {@code format} is applied to a {@link #copy(boolean)} of this builder. Implementations may instead
+     * apply it to this builder while it writes to a scratch buffer, so the builder given to {@code format} must not be
+     * retained.
+     *
+     * @param format appends the fragment to the given builder
+     * @return the formatted fragment
+     */
+    default String fragment(Consumer<MarkupDocBuilder> format) {
+        MarkupDocBuilder fragment = copy(false);
+        format.accept(fragment);
+        return fragment.toString();
+    }
+
     /**
      * Add an extension to fileName depending on markup language.
      *
@@ -596,4 +612,37 @@ public interface MarkupDocBuilder {
      */
     void writeToFileWithoutExtension(Path file, Charset charset, OpenOption... options);
 
+    /**
+     * Builds the document directly into a file instead of keeping it in memory until it is written.<br>
+     * An extension will be dynamically added to fileName depending on the markup language.<br>
+     * The content may be flushed to the file whenever a section title starts, so {@code document} must not rely on
+     * {@link #toString()} returning the whole document. By default the document is built in memory and written with
+     * {@link #writeToFile(Path, Charset, OpenOption...)}.
+     *
+     * @param file     the generated file without extension
+     * @param charset  the the charset to use for encoding
+     * @param document builds the document with the given builder
+     * @param options  the file open options
+     */
+    default void streamToFile(Path file, Charset charset, Consumer<MarkupDocBuilder> document, OpenOption... options) {
+        document.accept(this);
+        writeToFile(file, charset, options);
+    }
+
+    /**
+     * Builds the document directly into a file instead of keeping it in memory until it is written.<br>
+     * The content may be flushed to the file whenever a section title starts, so {@code document} must not rely on
+     * {@link #toString()} returning the whole document. By default the document is built in memory and written with
+     * {@link #writeToFileWithoutExtension(Path, Charset, OpenOption...)}.
+     *
+     * @param file     the generated file
+     * @param charset  the the charset to use for encoding
+     * @param document builds the document with the given builder
+     * @param options  the file open options
+     */
+    default void streamToFileWithoutExtension(Path file, Charset charset, Consumer<MarkupDocBuilder> document, OpenOption... options) {
+        document.accept(this);
+        writeToFileWithoutExtension(file, charset, options);
+    }
+
 }
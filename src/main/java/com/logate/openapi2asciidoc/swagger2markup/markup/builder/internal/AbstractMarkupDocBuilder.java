@@ -32,12 +32,14 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.text.Normalizer;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -68,6 +70,22 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
 
     protected String anchorPrefix = null;
 
+    /**
+     * Scratch buffer of the outermost {@link #fragment(Consumer)}, nested fragments use their own.
+     */
+    private final StringBuilder fragmentBuilder = new StringBuilder();
+
+    /**
+     * Number of fragments being formatted, including nested ones.
+     */
+    private int fragmentDepth;
+
+    /**
+     * Output of {@link #streamToFileWithoutExtension(Path, Charset, Consumer, OpenOption...)}, null while the document is
+     * kept in memory.
+     */
+    private Writer output;
+
     public AbstractMarkupDocBuilder() {
         this(System.getProperty("line.separator"), ASCIIDOC_PEGDOWN_DEFUALT_MILLIS);
     }
@@ -102,6 +120,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
     protected void sectionTitleLevel(Markup markup, int level, String title) {
         Validate.notBlank(title, "title must not be blank");
         Validate.inclusiveBetween(1, MAX_TITLE_LEVEL, level);
+        flushDocument();
         documentBuilder.append(newLine);
         documentBuilder.append(StringUtils.repeat(markup.toString(), level + 1)).append(" ").append(replaceNewLinesWithWhiteSpace(title)).append(newLine);
     }
@@ -109,6 +128,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
     protected void sectionTitleWithAnchorLevel(Markup markup, int level, String title, String anchor) {
         Validate.notBlank(title, "title must not be blank");
         Validate.inclusiveBetween(1, MAX_TITLE_LEVEL, level);
+        flushDocument();
         documentBuilder.append(newLine);
         if (anchor == null)
             anchor = title;
@@ -502,11 +522,44 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         return tableWithColumnSpecs(null, cells);
     }
 
+    /**
+     * Writes the content built so far to the output of a streamed document, so that only the current section is kept in
+     * memory. Does nothing if the document is not streamed, or while a fragment is formatted.
+     */
+    protected void flushDocument() {
+        if (output == null || fragmentDepth > 0 || documentBuilder.length() == 0) {
+            return;
+        }
+        try {
+            output.append(documentBuilder);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file", e);
+        }
+        documentBuilder.setLength(0);
+    }
+
     @Override
     public String toString() {
         return documentBuilder.toString();
     }
 
+    @Override
+    public String fragment(Consumer<MarkupDocBuilder> format) {
+        Validate.notNull(format, "format must not be null");
+        StringBuilder document = documentBuilder;
+        StringBuilder fragment = fragmentDepth == 0 ? fragmentBuilder : new StringBuilder();
+        fragment.setLength(0);
+        documentBuilder = fragment;
+        fragmentDepth++;
+        try {
+            format.accept(this);
+            return fragment.toString();
+        } finally {
+            documentBuilder = document;
+            fragmentDepth--;
+        }
+    }
+
     @Override
     public Path addFileExtension(Path file) {
         return file.resolveSibling(addFileExtension(file.getFileName().toString()));
@@ -517,15 +570,8 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
      */
     @Override
     public void writeToFileWithoutExtension(Path file, Charset charset, OpenOption... options) {
-        // Support relative file names both of "filename" and "./filename"
-        if (file.getParent() != null) {
-            try {
-                Files.createDirectories(file.getParent());
-            } catch (IOException e) {
-                throw new RuntimeException("Failed create directory", e);
-            }
-        }
-        
+        createParentDirectories(file);
+
         try (BufferedWriter writer = Files.newBufferedWriter(file, charset, options)) {
             writer.write(toString());
             writer.write(newLine);
@@ -538,6 +584,45 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         }
     }
 
+    @Override
+    public void streamToFileWithoutExtension(Path file, Charset charset, Consumer<MarkupDocBuilder> document, OpenOption... options) {
+        Validate.notNull(document, "document must not be null");
+        createParentDirectories(file);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, charset, options)) {
+            output = writer;
+            flushDocument();
+            document.accept(this);
+            flushDocument();
+            // same trailer as writeToFileWithoutExtension
+            writer.write(newLine);
+            writer.write(newLine);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file", e);
+        } finally {
+            output = null;
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("Markup document written to: {}", file);
+        }
+    }
+
+    @Override
+    public void streamToFile(Path file, Charset charset, Consumer<MarkupDocBuilder> document, OpenOption... options) {
+        streamToFileWithoutExtension(file.resolveSibling(addFileExtension(file.getFileName().toString())), charset, document, options);
+    }
+
+    private void createParentDirectories(Path file) {
+        // Support relative file names both of "filename" and "./filename"
+        if (file.getParent() != null) {
+            try {
+                Files.createDirectories(file.getParent());
+            } catch (IOException e) {
+                throw new RuntimeException("Failed create directory", e);
+            }
+        }
+    }
+
     public String replaceNewLines(String content, String replacement) {
         return content.replaceAll(NEW_LINES, Matcher.quoteReplacement(replacement));
     }
@@ -6,8 +6,37 @@ import org.pegdown.Extensions;
 import org.pegdown.PegDownProcessor;
 import org.pegdown.ast.RootNode;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Creating a {@link PegDownProcessor} is expensive, since pegdown generates its parser with parboiled, and a processor
+ * can not be used by two threads at once. Processors are therefore pooled per parsing timeout, and handed to one
+ * thread at a time. Descriptions tend to repeat, so the latest results are memoized as well.
+ */
 public class AsciiDocConverterExtension extends Converter {
 
+    private static final Pattern FENCED_CODE_BLOCK_PATTERN =
+            Pattern.compile("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```");
+    private static final int MAX_POOLED_PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final int MAX_CACHED_RESULTS = 1024;
+
+    private static final ConcurrentMap<Long, BlockingQueue<PegDownProcessor>> processorPools = new ConcurrentHashMap<>();
+    private static final Map<Key, String> results = Collections.synchronizedMap(
+            new LinkedHashMap<Key, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                    return size() > MAX_CACHED_RESULTS;
+                }
+            });
+
     /**
      * Converts markdown to asciidoc.
      *
@@ -16,13 +45,55 @@ public class AsciiDocConverterExtension extends Converter {
      * @return asciidoc format
      */
     public static String convertMarkdownToAsciiDoc(String markdown, long timeoutMills) {
-        PegDownProcessor processor = new PegDownProcessor(Extensions.ALL, timeoutMills);
+        Key key = new Key(markdown, timeoutMills);
+        String asciiDoc = results.get(key);
+        if (asciiDoc == null) {
+            asciiDoc = convert(markdown, timeoutMills);
+            results.put(key, asciiDoc);
+        }
+        return asciiDoc;
+    }
+
+    private static String convert(String markdown, long timeoutMills) {
         // insert blank line before fenced code block if necessary
         if (markdown.contains("```")) {
-            markdown = markdown.replaceAll("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```", "\n$1```$2$3$1```");
+            markdown = FENCED_CODE_BLOCK_PATTERN.matcher(markdown).replaceAll("\n$1```$2$3$1```");
+        }
+        BlockingQueue<PegDownProcessor> pool = processorPools.computeIfAbsent(timeoutMills,
+                timeout -> new ArrayBlockingQueue<>(MAX_POOLED_PROCESSORS));
+        PegDownProcessor processor = pool.poll();
+        if (processor == null) {
+            processor = new PegDownProcessor(Extensions.ALL, timeoutMills);
         }
-        char[] markDown = markdown.toCharArray();
-        RootNode rootNode = processor.parseMarkdown(markDown);
+        // a processor which failed, e.g. because parsing timed out, is not returned to the pool
+        RootNode rootNode = processor.parseMarkdown(markdown.toCharArray());
+        pool.offer(processor);
         return new ToAsciiDocSerializer(rootNode, markdown).toAsciiDoc();
     }
+
+    /**
+     * The markdown source and the parsing timeout, which decides whether a source can be converted at all.
+     */
+    private static final class Key {
+        private final String markdown;
+        private final long timeoutMills;
+
+        private Key(String markdown, long timeoutMills) {
+            this.markdown = markdown;
+            this.timeoutMills = timeoutMills;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return timeoutMills == key.timeoutMills && markdown.equals(key.markdown);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(markdown, timeoutMills);
+        }
+    }
 }
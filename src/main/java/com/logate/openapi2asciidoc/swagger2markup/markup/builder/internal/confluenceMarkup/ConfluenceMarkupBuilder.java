@@ -96,6 +96,7 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
     public MarkupDocBuilder sectionTitleLevel(int level, String title) {
         Validate.notBlank(title, "title must not be blank");
         Validate.inclusiveBetween(1, MAX_TITLE_LEVEL, level);
+        flushDocument();
 
         documentBuilder.append(newLine);
         documentBuilder.append(String.format(TITLE_FORMAT, level + 1, replaceNewLinesWithWhiteSpace(title)));
@@ -108,6 +109,7 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
     public MarkupDocBuilder sectionTitleWithAnchorLevel(int level, String title, String anchor) {
         Validate.notBlank(title, "title must not be blank");
         Validate.inclusiveBetween(1, MAX_TITLE_LEVEL, level);
+        flushDocument();
 
         documentBuilder.append(newLine);
         documentBuilder.append(String.format(TITLE_FORMAT, level + 1, replaceNewLinesWithWhiteSpace(title)));
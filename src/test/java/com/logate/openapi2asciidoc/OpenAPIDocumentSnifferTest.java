@@ -0,0 +1,83 @@
+package com.logate.openapi2asciidoc;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OpenAPIDocumentSnifferTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void acceptsYamlWithOpenAPIKeyFirst() throws IOException {
+        Path file = write("spec.yaml", "openapi: 3.0.1\ninfo:\n  title: Test\n  version: '1'\npaths: {}\n");
+
+        assertTrue(OpenAPIDocumentSniffer.isOpenAPIDocument(file));
+    }
+
+    @Test
+    public void rejectsSmallYamlWithoutOpenAPIKey() throws IOException {
+        Path file = write("values.yaml", "replicaCount: 1\nimage:\n  repository: nginx\n");
+
+        assertFalse(OpenAPIDocumentSniffer.isOpenAPIDocument(file));
+    }
+
+    @Test
+    public void acceptsTruncatedYamlWithOpenAPIKeyLast() throws IOException {
+        StringBuilder yaml = new StringBuilder("components:\n  schemas:\n");
+        for (int i = 0; yaml.length() < 20 * 1024; i++) {
+            yaml.append("    Model").append(i).append(":\n")
+                    .append("      type: object\n")
+                    .append("      properties:\n")
+                    .append("        name:\n")
+                    .append("          type: string\n");
+        }
+        yaml.append("info:\n  title: Test\n  version: '1'\n")
+                .append("openapi: 3.0.1\n")
+                .append("paths: {}\n");
+        Path file = write("spec.yaml", yaml.toString());
+
+        assertTrue(OpenAPIDocumentSniffer.isOpenAPIDocument(file));
+    }
+
+    @Test
+    public void acceptsTruncatedJsonWithOpenAPIKeyLast() throws IOException {
+        StringBuilder json = new StringBuilder("{\"components\":{\"schemas\":{");
+        for (int i = 0; json.length() < 20 * 1024; i++) {
+            json.append("\"Model").append(i).append("\":{\"type\":\"object\"},");
+        }
+        json.append("\"Last\":{\"type\":\"object\"}}},\"openapi\":\"3.0.1\",\"paths\":{}}");
+        Path file = write("spec.json", json.toString());
+
+        assertTrue(OpenAPIDocumentSniffer.isOpenAPIDocument(file));
+    }
+
+    @Test
+    public void acceptsMalformedYaml() throws IOException {
+        Path file = write("spec.yaml", "info:\n  title: [Test\n  version: '1'\nopenapi: 3.0.1\n");
+
+        assertTrue(OpenAPIDocumentSniffer.isOpenAPIDocument(file));
+    }
+
+    @Test
+    public void acceptsMalformedJson() throws IOException {
+        Path file = write("spec.json", "{\"info\":{\"title\":},\"openapi\":\"3.0.1\",\"paths\":{}}");
+
+        assertTrue(OpenAPIDocumentSniffer.isOpenAPIDocument(file));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = folder.getRoot().toPath().resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,42 @@
+package com.logate.openapi2asciidoc.openapi2markup.internal.component;
+
+import com.logate.openapi2asciidoc.openapi2markup.OpenAPI2MarkupConverter;
+import com.logate.openapi2asciidoc.openapi2markup.OpenSchema2MarkupConfig;
+import com.logate.openapi2asciidoc.openapi2markup.config.OpenAPILabels;
+import com.logate.openapi2asciidoc.openapi2markup.config.builder.OpenAPI2MarkupConfigBuilder;
+import com.logate.openapi2asciidoc.openapi2markup.extension.builder.OpenAPI2MarkupExtensionRegistryBuilder;
+import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.DocumentImpl;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.examples.Example;
+import org.asciidoctor.ast.Document;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertTrue;
+
+public class ExamplesComponentTest {
+
+    @Test
+    public void rendersLinksOfReferencedAndExternalExamples() {
+        OpenAPI openAPI = new OpenAPI().components(new Components().addExamples("Pet", new Example().value("{}")));
+        Map<String, Example> examples = new LinkedHashMap<>();
+        examples.put("referenced", new Example().$ref("#/components/examples/Pet"));
+        examples.put("external", new Example().externalValue("https://example.com/pet.json"));
+
+        Document document = new DocumentImpl();
+        new ExamplesComponent(context(openAPI)).apply(document, examples);
+        String rendered = document.convert();
+
+        assertTrue(rendered, rendered.contains("<<_components_examples_pet,Pet>>"));
+        assertTrue(rendered, rendered.contains("<<https:__example.com_pet.json,"));
+    }
+
+    private static OpenAPI2MarkupConverter.OpenAPIContext context(OpenAPI openAPI) {
+        OpenSchema2MarkupConfig config = new OpenAPI2MarkupConfigBuilder().build();
+        return new OpenAPI2MarkupConverter.OpenAPIContext(config,
+                new OpenAPI2MarkupExtensionRegistryBuilder().build(), openAPI, null, new OpenAPILabels(config));
+    }
+}
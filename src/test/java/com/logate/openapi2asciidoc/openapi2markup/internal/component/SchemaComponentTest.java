@@ -0,0 +1,88 @@
+package com.logate.openapi2asciidoc.openapi2markup.internal.component;
+
+import com.logate.openapi2asciidoc.openapi2markup.OpenAPI2MarkupConverter;
+import com.logate.openapi2asciidoc.openapi2markup.OpenSchema2MarkupConfig;
+import com.logate.openapi2asciidoc.openapi2markup.config.OpenAPILabels;
+import com.logate.openapi2asciidoc.openapi2markup.config.builder.OpenAPI2MarkupConfigBuilder;
+import com.logate.openapi2asciidoc.openapi2markup.extension.builder.OpenAPI2MarkupExtensionRegistryBuilder;
+import com.logate.openapi2asciidoc.swagger2markup.adoc.ast.impl.DocumentImpl;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaComponentTest {
+
+    private static final int MAX_SCHEMA_DEPTH = 2;
+    private static final String DEPTH_LIMIT = "Nesting Too Deep";
+
+    @Test
+    public void sharedSchemaFromCacheIsCutAtTheDepthLimit() {
+        OpenAPI openAPI = chain(5);
+
+        SchemaComponent warmComponent = new SchemaComponent(context(openAPI));
+        String shallow = render(warmComponent, schema(openAPI, 2));
+        String deepAfterShallow = render(warmComponent, schema(openAPI, 0));
+
+        String deep = render(new SchemaComponent(context(openAPI)), schema(openAPI, 0));
+
+        assertFalse(shallow.contains(DEPTH_LIMIT));
+        assertTrue(deep.contains(DEPTH_LIMIT));
+        assertEquals(deep, deepAfterShallow);
+    }
+
+    @Test
+    public void sharedSchemaIsReusedWhereItFits() {
+        OpenAPI openAPI = chain(3);
+        OpenAPI2MarkupConverter.OpenAPIContext context = context(openAPI);
+        SchemaComponent component = new SchemaComponent(context);
+
+        String shallow = render(component, schema(openAPI, 1));
+        long misses = context.getSchemaDocumentCache().getMissCount();
+        render(component, schema(openAPI, 0));
+
+        assertFalse(shallow.contains(DEPTH_LIMIT));
+        assertEquals(misses + 1, context.getSchemaDocumentCache().getMissCount());
+    }
+
+    /**
+     * Creates the component schemas {@code Level0} to {@code Level<n-1>}, each nesting the next one.
+     */
+    @SuppressWarnings("rawtypes")
+    private static OpenAPI chain(int length) {
+        Components components = new Components();
+        Schema next = null;
+        for (int i = length - 1; i >= 0; i--) {
+            Schema schema = new ObjectSchema().description("Level " + i);
+            if (null != next) {
+                schema.addProperties("next", next);
+            }
+            components.addSchemas("Level" + i, schema);
+            next = schema;
+        }
+        return new OpenAPI().components(components);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Schema schema(OpenAPI openAPI, int level) {
+        return openAPI.getComponents().getSchemas().get("Level" + level);
+    }
+
+    private static OpenAPI2MarkupConverter.OpenAPIContext context(OpenAPI openAPI) {
+        OpenSchema2MarkupConfig config = new OpenAPI2MarkupConfigBuilder()
+                .withMaxSchemaDepth(MAX_SCHEMA_DEPTH)
+                .build();
+        return new OpenAPI2MarkupConverter.OpenAPIContext(config,
+                new OpenAPI2MarkupExtensionRegistryBuilder().build(), openAPI, null, new OpenAPILabels(config));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static String render(SchemaComponent component, Schema schema) {
+        return component.apply(new DocumentImpl(), schema).convert();
+    }
+}
@@ -0,0 +1,84 @@
+package com.logate.openapi2asciidoc.swagger2markup.internal.utils;
+
+import com.logate.openapi2asciidoc.swagger2markup.Swagger2MarkupConverter;
+import com.logate.openapi2asciidoc.swagger2markup.internal.resolver.DefinitionDocumentResolverDefault;
+import com.logate.openapi2asciidoc.swagger2markup.internal.resolver.DocumentResolver;
+import com.logate.openapi2asciidoc.swagger2markup.markup.builder.LineSeparator;
+import com.logate.openapi2asciidoc.swagger2markup.markup.builder.MarkupDocBuilder;
+import com.logate.openapi2asciidoc.swagger2markup.markup.builder.MarkupDocBuilders;
+import com.logate.openapi2asciidoc.swagger2markup.markup.builder.MarkupLanguage;
+import com.logate.openapi2asciidoc.swagger2markup.model.SwaggerPathOperation;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.RefModel;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class ExamplesUtilTest {
+
+    @Test
+    public void expandsSiblingPropertiesOfSelfReferencingModelAlike() {
+        Map<String, Model> definitions = nodeDefinitions();
+
+        Map<?, ?> example = generateNodeExample(definitions, new ExampleCache());
+
+        assertEquals("string", example.get("value"));
+        Map<?, ?> left = (Map<?, ?>) example.get("left");
+        assertEquals("string", left.get("value"));
+        assertEquals("...", left.get("left"));
+        assertEquals("...", left.get("right"));
+        assertEquals(left, example.get("right"));
+    }
+
+    @Test
+    public void cachedExampleEqualsFreshlyGeneratedOne() {
+        Map<String, Model> definitions = nodeDefinitions();
+        ExampleCache exampleCache = new ExampleCache();
+
+        Object generated = generateNodeExample(definitions, exampleCache);
+        assertNotNull(exampleCache.get(exampleCache.key("Node", Collections.emptyMap())));
+        Object cached = generateNodeExample(definitions, exampleCache);
+        Object fresh = generateNodeExample(definitions, new ExampleCache());
+
+        assertEquals(fresh, cached);
+        assertEquals(generated, cached);
+    }
+
+    /**
+     * A {@code Node} with a value and two children, which are nodes again.
+     */
+    private static Map<String, Model> nodeDefinitions() {
+        ModelImpl node = new ModelImpl().type(ModelImpl.OBJECT)
+                .property("value", new StringProperty())
+                .property("left", new RefProperty("#/definitions/Node"))
+                .property("right", new RefProperty("#/definitions/Node"));
+        Map<String, Model> definitions = new LinkedHashMap<>();
+        definitions.put("Node", node);
+        return definitions;
+    }
+
+    private static Map<?, ?> generateNodeExample(Map<String, Model> definitions, ExampleCache exampleCache) {
+        Response response = new Response().description("OK").responseSchema(new RefModel("#/definitions/Node"));
+        Operation operation = new Operation().response(200, response);
+        SwaggerPathOperation pathOperation = new SwaggerPathOperation("GET", "/nodes", "getNode", "Get node", operation);
+        MarkupDocBuilder markupDocBuilder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX);
+        Swagger swagger = new Swagger();
+        swagger.setDefinitions(definitions);
+        DocumentResolver resolver = new DefinitionDocumentResolverDefault(Swagger2MarkupConverter.from(swagger).build().getContext());
+
+        Map<String, Object> examples = ExamplesUtil.generateResponseExampleMap(true, pathOperation, definitions,
+                resolver, markupDocBuilder, exampleCache);
+        return (Map<?, ?>) examples.get("200");
+    }
+}
@@ -0,0 +1,83 @@
+package com.logate.openapi2asciidoc.swagger2markup.internal.utils;
+
+import com.logate.openapi2asciidoc.swagger2markup.Swagger2MarkupConverter;
+import com.logate.openapi2asciidoc.swagger2markup.internal.resolver.DefinitionDocumentResolverDefault;
+import com.logate.openapi2asciidoc.swagger2markup.internal.resolver.DocumentResolver;
+import com.logate.openapi2asciidoc.swagger2markup.internal.type.ObjectType;
+import com.logate.openapi2asciidoc.swagger2markup.internal.type.RefType;
+import com.logate.openapi2asciidoc.swagger2markup.internal.type.Type;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.RefModel;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.StringProperty;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+public class ModelUtilsTest {
+
+    @Test
+    public void resolvesTwoDefinitionAllOfCycle() {
+        Map<String, Model> definitions = new LinkedHashMap<>();
+        definitions.put("Parent", composed(new RefModel("#/definitions/Child"), object("parentName")));
+        definitions.put("Child", composed(new RefModel("#/definitions/Parent"), object("childName")));
+        DocumentResolver resolver = newResolver();
+
+        Type parent = ModelUtils.getType(new RefModel("#/definitions/Parent"), definitions, resolver);
+        Type child = ModelUtils.getType(new RefModel("#/definitions/Child"), definitions, resolver);
+
+        assertEquals("Parent", ModelUtils.resolveRefType(parent).getName());
+        assertEquals(Arrays.asList("childName", "parentName"), propertyNames(parent));
+        assertEquals("Child", ModelUtils.resolveRefType(child).getName());
+        assertEquals(Arrays.asList("parentName", "childName"), propertyNames(child));
+    }
+
+    @Test
+    public void cachedTypeIsNotChangedThroughReturnedType() {
+        Map<String, Model> definitions = new LinkedHashMap<>();
+        definitions.put("Pet", object("name"));
+        DocumentResolver resolver = newResolver();
+
+        RefType first = (RefType) ModelUtils.getType(new RefModel("#/definitions/Pet"), definitions, resolver);
+        first.setName("Renamed");
+        first.getRefType().setName("Renamed");
+        first.getRefType().setUniqueName("Renamed");
+        first.setRefType(new ObjectType("Other", null));
+        RefType second = (RefType) ModelUtils.getType(new RefModel("#/definitions/Pet"), definitions, resolver);
+
+        assertNotSame(first, second);
+        assertNull(second.getName());
+        assertEquals("Pet", second.getRefType().getName());
+        assertEquals("Pet", second.getRefType().getUniqueName());
+        assertEquals(Arrays.asList("name"), propertyNames(second));
+    }
+
+    private static ComposedModel composed(Model... allOf) {
+        ComposedModel model = new ComposedModel();
+        model.setAllOf(Arrays.asList(allOf));
+        return model;
+    }
+
+    private static ModelImpl object(String propertyName) {
+        return new ModelImpl().type(ModelImpl.OBJECT).property(propertyName, new StringProperty());
+    }
+
+    private static List<String> propertyNames(Type type) {
+        ObjectType objectType = (ObjectType) ModelUtils.resolveRefType(type);
+        return new ArrayList<>(objectType.getProperties().keySet());
+    }
+
+    private static DocumentResolver newResolver() {
+        return new DefinitionDocumentResolverDefault(Swagger2MarkupConverter.from(new Swagger()).build().getContext());
+    }
+}
@@ -0,0 +1,71 @@
+package com.logate.openapi2asciidoc.swagger2markup.internal.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class XmlUtilsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void keepsNamespacesAndAttributes() {
+        String xml = "<p:pet xmlns:p=\"urn:pets\" xmlns=\"urn:default\"><p:name lang=\"en\" id=\"1\">Rex</p:name><tag/></p:pet>";
+
+        assertEquals("<p:pet xmlns:p=\"urn:pets\" xmlns=\"urn:default\">\n"
+                + "  <p:name lang=\"en\" id=\"1\">Rex</p:name>\n"
+                + "  <tag/>\n"
+                + "</p:pet>", XmlUtils.prettyPrint(xml));
+    }
+
+    @Test
+    public void indentsMixedContentAndSelfClosesEmptyElements() {
+        String xml = "<pet><name>Rex</name><note>Hello <b>world</b> again</note><empty></empty><self/></pet>";
+
+        assertEquals("<pet>\n"
+                + "  <name>Rex</name>\n"
+                + "  <note>Hello\n"
+                + "    <b>world</b>\n"
+                + "    again</note>\n"
+                + "  <empty/>\n"
+                + "  <self/>\n"
+                + "</pet>", XmlUtils.prettyPrint(xml));
+    }
+
+    @Test
+    public void escapesTextAndAttributes() {
+        String xml = "<a title=\"x &amp; &quot;y&quot;\">1 &lt; 2</a>";
+
+        assertEquals(xml, XmlUtils.prettyPrint(xml));
+    }
+
+    @Test
+    public void returnsMalformedXmlUnchanged() {
+        String xml = "<pet><name>Rex</pet>";
+
+        assertEquals(xml, XmlUtils.prettyPrint(xml));
+    }
+
+    @Test
+    public void doesNotResolveExternalEntities() throws IOException {
+        Path secret = folder.newFile("secret.txt").toPath();
+        Files.write(secret, "top secret".getBytes(StandardCharsets.UTF_8));
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE pet [<!ENTITY xxe SYSTEM \"" + secret.toUri() + "\">]>"
+                + "<pet>&xxe;</pet>";
+
+        String prettyPrinted = XmlUtils.prettyPrint(xml);
+
+        assertFalse(prettyPrinted.contains("top secret"));
+        assertTrue(prettyPrinted.contains("&xxe;"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.logate.openapi2asciidoc.swagger2markup.markup.builder;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MarkupDocBuilderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void nestedFragmentsAreNotFlushedToStreamedDocument() throws IOException {
+        String[] cell = new String[1];
+        Consumer<MarkupDocBuilder> document = builder -> {
+            builder.sectionTitleLevel1("First");
+            cell[0] = builder.fragment(outer -> {
+                outer.text("outer ");
+                outer.text(outer.fragment(inner -> inner.text("inner")));
+                outer.sectionTitleLevel2("Nested");
+                outer.text("after");
+            });
+            builder.sectionTitleLevel1("Second");
+            builder.text(cell[0]);
+        };
+
+        Path written = folder.getRoot().toPath().resolve("written.adoc");
+        MarkupDocBuilder inMemory = newBuilder();
+        document.accept(inMemory);
+        inMemory.writeToFileWithoutExtension(written, StandardCharsets.UTF_8);
+
+        Path streamed = folder.getRoot().toPath().resolve("streamed.adoc");
+        newBuilder().streamToFileWithoutExtension(streamed, StandardCharsets.UTF_8, document);
+
+        assertTrue(cell[0].startsWith("outer inner"));
+        assertTrue(cell[0].contains("Nested"));
+        assertEquals(read(written), read(streamed));
+    }
+
+    private static MarkupDocBuilder newBuilder() {
+        return MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX);
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}